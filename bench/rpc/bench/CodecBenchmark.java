@@ -0,0 +1,97 @@
+package rpc.bench;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rpc.RPCSecrets;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Encoding and decoding of single parameters, with Java serialization
+ * ({@link RPCSecrets#serialize(Object)}) and with the default codec
+ * ({@link RPCSecrets#DEFAULT_CODEC}).
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+	/** The kind of payload. */
+	@Param({ "int", "string", "intArray", "list" })
+	public String type;
+
+	/** The number of characters or elements, ignored for <tt>int</tt>. */
+	@Param({ "16", "1024", "65536" })
+	public int size;
+
+	private Serializable _value;
+	private ByteString _serialized;
+	private ByteString _encoded;
+
+	@Setup
+	public void setUp() {
+		_value = payload(type, size);
+		_serialized = RPCSecrets.serialize(_value);
+		_encoded = RPCSecrets.DEFAULT_CODEC.encode(_value);
+	}
+
+	static Serializable payload(String type, int size) {
+		if (type.equals("int")) {
+			return Integer.valueOf(size);
+		} else if (type.equals("string")) {
+			char[] chars = new char[size];
+			Arrays.fill(chars, 'x');
+			return new String(chars);
+		} else if (type.equals("intArray")) {
+			int[] ints = new int[size];
+			for (int i = 0; i < size; i++) {
+				ints[i] = i;
+			}
+			return ints;
+		} else if (type.equals("list")) {
+			ArrayList<Integer> list = new ArrayList<Integer>(size);
+			for (int i = 0; i < size; i++) {
+				list.add(i);
+			}
+			return list;
+		}
+		throw new IllegalArgumentException(type);
+	}
+
+	@Benchmark
+	public ByteString serialize() {
+		return RPCSecrets.serialize(_value);
+	}
+
+	@Benchmark
+	public Object deserialize() throws ClassNotFoundException {
+		return RPCSecrets.deserialize(_serialized);
+	}
+
+	@Benchmark
+	public ByteString encode() {
+		return RPCSecrets.DEFAULT_CODEC.encode(_value);
+	}
+
+	@Benchmark
+	public Object decode() throws ClassNotFoundException {
+		return RPCSecrets.DEFAULT_CODEC.decode(_encoded);
+	}
+}
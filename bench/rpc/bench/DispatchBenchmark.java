@@ -0,0 +1,60 @@
+package rpc.bench;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rpc.RPCException;
+import rpc.server.RPCLocalServiceProvider;
+
+/**
+ * Local dispatch of the overloads of <tt>Testclass.myMethod</tt> with zero,
+ * one and three parameters through
+ * {@link RPCLocalServiceProvider#callexplicit(String, String, Serializable[])}
+ * .
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+	private static final String CLASS_NAME = "testpackage.Testclass";
+	private static final String METHOD_NAME = "myMethod";
+
+	private final Serializable[] _noArgs = {};
+	private final Serializable[] _oneArg = { 1 };
+	private final Serializable[] _threeArgs = { 1, 2, 3 };
+	private RPCLocalServiceProvider _provider;
+
+	@Setup
+	public void setUp() {
+		_provider = new RPCLocalServiceProvider();
+	}
+
+	@Benchmark
+	public Object noArgs() throws RPCException {
+		return _provider.callexplicit(CLASS_NAME, METHOD_NAME, _noArgs);
+	}
+
+	@Benchmark
+	public Object oneArg() throws RPCException {
+		return _provider.callexplicit(CLASS_NAME, METHOD_NAME, _oneArg);
+	}
+
+	@Benchmark
+	public Object threeArgs() throws RPCException {
+		return _provider.callexplicit(CLASS_NAME, METHOD_NAME, _threeArgs);
+	}
+}
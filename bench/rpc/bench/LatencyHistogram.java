@@ -0,0 +1,100 @@
+package rpc.bench;
+
+/**
+ * A histogram of latencies in nanoseconds with bounded relative error, in the
+ * style of HdrHistogram. Values below 256 are counted exactly; above, every
+ * power of two is split into 128 buckets, so a recorded value is reported
+ * with an error of less than 1%. Recording is constant time and allocation
+ * free.
+ *
+ * <p>
+ * The histogram itself does not correct for coordinated omission. Callers
+ * that generate load on a fixed schedule record the time from the
+ * <em>intended</em> start of a call, which includes any time the call waited
+ * because an earlier one was slow (see {@link LoadGenerator}).
+ * </p>
+ */
+final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 8;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1)
+			* SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+
+	private final long[] _counts = new long[BUCKETS];
+	private long _total;
+	private long _max;
+
+	/**
+	 * Records one latency; negative values are counted as 0.
+	 */
+	synchronized void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		_counts[index(value)]++;
+		_total++;
+		if (value > _max) {
+			_max = value;
+		}
+	}
+
+	/**
+	 * Adds all values recorded by another histogram.
+	 */
+	synchronized void add(LatencyHistogram other) {
+		synchronized (other) {
+			for (int i = 0; i < BUCKETS; i++) {
+				_counts[i] += other._counts[i];
+			}
+			_total += other._total;
+			_max = Math.max(_max, other._max);
+		}
+	}
+
+	synchronized long getTotalCount() {
+		return _total;
+	}
+
+	synchronized long getMax() {
+		return _max;
+	}
+
+	/**
+	 * @param percentile
+	 *            the percentile, between 0 and 100
+	 * @return the largest value that is counted in the same bucket as the
+	 *         value at the percentile, at most the maximum recorded value; 0
+	 *         if nothing was recorded
+	 */
+	synchronized long getValueAtPercentile(double percentile) {
+		if (_total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * _total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += _counts[i];
+			if (seen >= rank) {
+				return Math.min(highestEquivalentValue(i), _max);
+			}
+		}
+		return _max;
+	}
+
+	private static int index(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift);
+		return shift * SUB_BUCKET_HALF + subBucket;
+	}
+
+	private static long highestEquivalentValue(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKET_HALF - 1;
+		long subBucket = index - shift * SUB_BUCKET_HALF;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
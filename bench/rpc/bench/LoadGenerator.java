@@ -0,0 +1,293 @@
+package rpc.bench;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import rpc.client.RPCRemoteServiceProvider;
+import rpc.server.RPCLocalServiceProvider;
+import rpc.server.RPCServerServiceProvider;
+
+/**
+ * Open-loop load generator. It starts a {@link RPCServerServiceProvider} on
+ * the loopback interface and sends calls to it at a fixed rate, regardless of
+ * how fast results arrive. This way slow responses cannot throttle the load,
+ * unlike closed-loop tests that wait for each result before sending the next
+ * call.
+ *
+ * <p>
+ * Every call has an intended start time on the schedule. Its latency is
+ * measured from that time, not from when it was actually sent. This corrects
+ * for coordinated omission: if the sender falls behind, the delay shows up in
+ * the latencies instead of being silently left out. For comparison, the
+ * report also shows the latencies measured from the actual send.
+ * </p>
+ *
+ * <p>
+ * Options, all optional:
+ * </p>
+ * <ul>
+ * <li><tt>--rate N</tt> calls per second over all clients (default 10000)</li>
+ * <li><tt>--duration S</tt> seconds measured (default 30)</li>
+ * <li><tt>--warmup S</tt> seconds sent before measuring (default 5)</li>
+ * <li><tt>--clients N</tt> number of clients, each with its own socket
+ * (default 4)</li>
+ * <li><tt>--payload B</tt> size in bytes of the array passed to
+ * <tt>intArray</tt> calls (default 256)</li>
+ * <li><tt>--mix name=weight,...</tt> relative frequency of the calls
+ * <tt>noArgs</tt>, <tt>oneArg</tt>, <tt>threeArgs</tt> and <tt>intArray</tt>
+ * (default <tt>noArgs=1,oneArg=1,threeArgs=1,intArray=1</tt>)</li>
+ * <li><tt>--port P</tt> the server port (default 8300)</li>
+ * </ul>
+ */
+public class LoadGenerator {
+	private static final String CLASS_NAME = "testpackage.Testclass";
+
+	private long _rate = 10000;
+	private long _durationSeconds = 30;
+	private long _warmupSeconds = 5;
+	private int _clients = 4;
+	private int _payload = 256;
+	private String _mix = "noArgs=1,oneArg=1,threeArgs=1,intArray=1";
+	private int _port = 8300;
+
+	private final LatencyHistogram _corrected = new LatencyHistogram();
+	private final LatencyHistogram _uncorrected = new LatencyHistogram();
+	private final AtomicLong _errors = new AtomicLong();
+
+	public static void main(String[] args) throws Exception {
+		LoadGenerator generator = new LoadGenerator();
+		generator.parse(args);
+		generator.run();
+	}
+
+	private void parse(String[] args) {
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			String value = args[i + 1];
+			if (args[i].equals("--rate")) {
+				_rate = Long.parseLong(value);
+			} else if (args[i].equals("--duration")) {
+				_durationSeconds = Long.parseLong(value);
+			} else if (args[i].equals("--warmup")) {
+				_warmupSeconds = Long.parseLong(value);
+			} else if (args[i].equals("--clients")) {
+				_clients = Integer.parseInt(value);
+			} else if (args[i].equals("--payload")) {
+				_payload = Integer.parseInt(value);
+			} else if (args[i].equals("--mix")) {
+				_mix = value;
+			} else if (args[i].equals("--port")) {
+				_port = Integer.parseInt(value);
+			} else {
+				throw new IllegalArgumentException("unknown option " + args[i]);
+			}
+		}
+		if (args.length % 2 != 0)
+			throw new IllegalArgumentException("missing value for "
+					+ args[args.length - 1]);
+		if (_rate <= 0 || _clients <= 0 || _durationSeconds <= 0)
+			throw new IllegalArgumentException(
+					"rate, clients and duration must be positive");
+	}
+
+	private void run() throws IOException, InterruptedException {
+		Workload workload = new Workload(_mix, _payload);
+		PrintStream report = System.out;
+		SilentOutput output = SilentOutput.install();
+		RPCServerServiceProvider server = new RPCServerServiceProvider(
+				new RPCLocalServiceProvider(), _port);
+		Thread serverThread = new Thread(server, "rpc-load-server");
+		serverThread.start();
+
+		long interval = TimeUnit.SECONDS.toNanos(1) * _clients / _rate;
+		long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+		long measureFrom = start + TimeUnit.SECONDS.toNanos(_warmupSeconds);
+		long end = measureFrom + TimeUnit.SECONDS.toNanos(_durationSeconds);
+		List<RPCRemoteServiceProvider> clients = new ArrayList<RPCRemoteServiceProvider>();
+		List<Thread> senders = new ArrayList<Thread>();
+		AtomicLong completed = new AtomicLong();
+		for (int i = 0; i < _clients; i++) {
+			RPCRemoteServiceProvider client = new RPCRemoteServiceProvider(
+					InetAddress.getLoopbackAddress(), _port);
+			clients.add(client);
+			/* stagger the clients evenly within one interval */
+			long first = start + interval * i / _clients;
+			Thread sender = new Thread(new Sender(client, workload, i, first,
+					interval, measureFrom, end, completed), "rpc-load-" + i);
+			senders.add(sender);
+			sender.start();
+		}
+		/* each sender waits until its calls completed or timed out */
+		for (Thread sender : senders) {
+			sender.join();
+		}
+		for (RPCRemoteServiceProvider client : clients) {
+			client.close();
+		}
+		server.terminate();
+		serverThread.join();
+		output.restore();
+		report(report, completed.get(), end - measureFrom);
+	}
+
+	private void report(PrintStream out, long completed, long elapsedNanos) {
+		double seconds = elapsedNanos / 1e9;
+		out.printf(Locale.ROOT, "target rate:   %d calls/s%n", _rate);
+		out.printf(Locale.ROOT, "achieved rate: %.1f calls/s (%d calls, %d errors)%n",
+				completed / seconds, completed, _errors.get());
+		out.printf(Locale.ROOT, "clients: %d, payload: %d bytes, mix: %s%n",
+				_clients, _payload, _mix);
+		out.println();
+		out.printf(Locale.ROOT, "%-24s %10s %10s %10s %10s %10s%n",
+				"latency (us)", "p50", "p99", "p99.9", "max", "count");
+		row(out, "from intended start", _corrected);
+		row(out, "from actual send", _uncorrected);
+	}
+
+	private static void row(PrintStream out, String name,
+			LatencyHistogram histogram) {
+		out.printf(Locale.ROOT, "%-24s %10.1f %10.1f %10.1f %10.1f %10d%n",
+				name, histogram.getValueAtPercentile(50) / 1e3,
+				histogram.getValueAtPercentile(99) / 1e3,
+				histogram.getValueAtPercentile(99.9) / 1e3,
+				histogram.getMax() / 1e3, histogram.getTotalCount());
+	}
+
+	/**
+	 * Sends the calls of one client on its schedule.
+	 */
+	private final class Sender implements Runnable {
+		private final RPCRemoteServiceProvider client;
+		private final Workload workload;
+		private final Random random;
+		private final long first;
+		private final long interval;
+		private final long measureFrom;
+		private final long end;
+		private final AtomicLong completed;
+		private final LatencyHistogram corrected = new LatencyHistogram();
+		private final LatencyHistogram uncorrected = new LatencyHistogram();
+
+		Sender(RPCRemoteServiceProvider client, Workload workload, int seed,
+				long first, long interval, long measureFrom, long end,
+				AtomicLong completed) {
+			this.client = client;
+			this.workload = workload;
+			this.random = new Random(seed);
+			this.first = first;
+			this.interval = interval;
+			this.measureFrom = measureFrom;
+			this.end = end;
+			this.completed = completed;
+		}
+
+		@Override
+		public void run() {
+			List<CompletableFuture<Object>> outstanding = new ArrayList<CompletableFuture<Object>>();
+			for (long n = 0;; n++) {
+				final long intended = first + n * interval;
+				if (intended >= end) {
+					break;
+				}
+				long now;
+				while ((now = System.nanoTime()) < intended) {
+					LockSupport.parkNanos(intended - now);
+				}
+				final long sent = now;
+				final boolean measured = intended >= measureFrom;
+				Call call = workload.next(random);
+				CompletableFuture<Object> future = client.callAsync(
+						CLASS_NAME, call.methodName, call.params);
+				if (measured) {
+					outstanding.add(future.whenComplete((result, failure) -> {
+						long done = System.nanoTime();
+						if (failure != null) {
+							_errors.incrementAndGet();
+							return;
+						}
+						corrected.record(done - intended);
+						uncorrected.record(done - sent);
+						completed.incrementAndGet();
+					}));
+				}
+			}
+			for (CompletableFuture<Object> future : outstanding) {
+				future.handle((result, failure) -> null).join();
+			}
+			_corrected.add(corrected);
+			_uncorrected.add(uncorrected);
+		}
+	}
+
+	/**
+	 * The calls to send and their relative frequencies.
+	 */
+	private static final class Workload {
+		private final List<Call> calls = new ArrayList<Call>();
+		private final List<Integer> weights = new ArrayList<Integer>();
+		private int totalWeight;
+
+		Workload(String mix, int payload) {
+			for (String entry : mix.split(",")) {
+				String[] parts = entry.split("=");
+				int weight = parts.length > 1 ? Integer.parseInt(parts[1]
+						.trim()) : 1;
+				if (weight <= 0) {
+					continue;
+				}
+				calls.add(call(parts[0].trim(), payload));
+				weights.add(weight);
+				totalWeight += weight;
+			}
+			if (calls.isEmpty())
+				throw new IllegalArgumentException("empty mix");
+		}
+
+		private static Call call(String name, int payload) {
+			if (name.equals("noArgs")) {
+				return new Call("myMethod");
+			} else if (name.equals("oneArg")) {
+				return new Call("myMethod", 1);
+			} else if (name.equals("threeArgs")) {
+				return new Call("myMethod", 1, 2, 3);
+			} else if (name.equals("intArray")) {
+				int[] values = new int[Math.max(payload / 4, 1)];
+				for (int i = 0; i < values.length; i++) {
+					values[i] = i;
+				}
+				return new Call("integerArrayTest", (Serializable) values);
+			}
+			throw new IllegalArgumentException("unknown call " + name);
+		}
+
+		Call next(Random random) {
+			int pick = random.nextInt(totalWeight);
+			for (int i = 0; i < calls.size(); i++) {
+				pick -= weights.get(i);
+				if (pick < 0) {
+					return calls.get(i);
+				}
+			}
+			return calls.get(calls.size() - 1);
+		}
+	}
+
+	private static final class Call {
+		private final String methodName;
+		private final Serializable[] params;
+
+		Call(String methodName, Serializable... params) {
+			this.methodName = methodName;
+			this.params = params;
+		}
+	}
+}
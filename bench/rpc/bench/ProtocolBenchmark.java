@@ -0,0 +1,79 @@
+package rpc.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rpc.RPCSecrets;
+import rpc.protobuf.RPCProtocol.RPCCall;
+import rpc.protobuf.RPCProtocol.RPCResult;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Protobuf encoding and decoding of <tt>RPCCall</tt> and <tt>RPCResult</tt>
+ * messages, with parameters and results of the given type and size (see
+ * {@link CodecBenchmark}).
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProtocolBenchmark {
+	@Param({ "int", "string", "intArray" })
+	public String type;
+
+	@Param({ "16", "1024" })
+	public int size;
+
+	private RPCCall _call;
+	private RPCResult _result;
+	private byte[] _callBytes;
+	private byte[] _resultBytes;
+
+	@Setup
+	public void setUp() {
+		ByteString value = RPCSecrets.DEFAULT_CODEC.encode(CodecBenchmark
+				.payload(type, size));
+		_call = RPCCall.newBuilder().setClassname("testpackage.Testclass")
+				.setMethodname("myMethod").addParameters(value)
+				.addParameters(value).setRequestid(42).build();
+		_result = RPCResult.newBuilder().setResult(value).setRequestid(42)
+				.build();
+		_callBytes = _call.toByteArray();
+		_resultBytes = _result.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] encodeCall() {
+		return _call.toByteArray();
+	}
+
+	@Benchmark
+	public RPCCall decodeCall() throws InvalidProtocolBufferException {
+		return RPCCall.parseFrom(_callBytes);
+	}
+
+	@Benchmark
+	public byte[] encodeResult() {
+		return _result.toByteArray();
+	}
+
+	@Benchmark
+	public RPCResult decodeResult() throws InvalidProtocolBufferException {
+		return RPCResult.parseFrom(_resultBytes);
+	}
+}
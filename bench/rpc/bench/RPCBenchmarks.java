@@ -0,0 +1,21 @@
+package rpc.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks with the GC profiler, which adds the allocation rate
+ * per operation to throughput and average time. An optional argument
+ * restricts the run to benchmarks matching that regular expression.
+ */
+public class RPCBenchmarks {
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(args.length > 0 ? args[0] : "rpc\\.bench\\..*")
+				.addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,76 @@
+package rpc.bench;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rpc.RPCException;
+import rpc.client.RPCRemoteServiceProvider;
+import rpc.server.RPCLocalServiceProvider;
+import rpc.server.RPCServerServiceProvider;
+
+/**
+ * Complete calls from a {@link RPCRemoteServiceProvider} to a
+ * {@link RPCServerServiceProvider} over the loopback interface.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+	private static final int PORT = 8200;
+
+	private RPCServerServiceProvider _server;
+	private Thread _serverThread;
+	private RPCRemoteServiceProvider _client;
+	private SilentOutput _output;
+
+	@Setup
+	public void setUp() throws IOException {
+		_output = SilentOutput.install();
+		_server = new RPCServerServiceProvider(new RPCLocalServiceProvider(),
+				PORT);
+		_serverThread = new Thread(_server, "rpc-bench-server");
+		_serverThread.start();
+		_client = new RPCRemoteServiceProvider(InetAddress.getLoopbackAddress(),
+				PORT);
+	}
+
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		_client.close();
+		_server.terminate();
+		_serverThread.join();
+		_output.restore();
+	}
+
+	@Benchmark
+	public Object noArgs() throws RPCException {
+		return _client.call("testpackage.Testclass", "myMethod");
+	}
+
+	@Benchmark
+	public Object threeArgs() throws RPCException {
+		return _client.call("testpackage.Testclass", "myMethod", 1, 2, 3);
+	}
+
+	@Benchmark
+	public Object intArray() throws RPCException {
+		return _client.call("testpackage.Testclass", "integerArrayTest",
+				new int[] { 12, 4, 1, 3 });
+	}
+}
@@ -0,0 +1,35 @@
+package rpc.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Replaces {@link System#out} with a stream that discards everything, so
+ * that messages of the service providers do not interfere with the
+ * measurements.
+ */
+final class SilentOutput {
+	private final PrintStream _original;
+
+	private SilentOutput(PrintStream original) {
+		_original = original;
+	}
+
+	static SilentOutput install() {
+		SilentOutput output = new SilentOutput(System.out);
+		System.setOut(new PrintStream(new OutputStream() {
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		}));
+		return output;
+	}
+
+	void restore() {
+		System.setOut(_original);
+	}
+}
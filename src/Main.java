@@ -1,6 +1,5 @@
+import java.io.IOException;
 import java.net.InetAddress;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 
 import rpc.RPCException;
 import rpc.RPCServiceProvider;
@@ -11,8 +10,7 @@ import rpc.server.RPCServerServiceProvider;
 public class Main {
 	protected static final int port = 8000;
 
-	public static void main(String[] args) throws RPCException,
-			SocketException, UnknownHostException {
+	public static void main(String[] args) throws RPCException, IOException {
 		RPCServiceProvider local = new RPCLocalServiceProvider();
 		local(local);
 		rpc(local);
@@ -25,17 +23,18 @@ public class Main {
 	private static void local(RPCServiceProvider local) throws RPCException {
 
 		{
-			System.out.println(local.call("testpackage.Testclass", "myMethod",
-					1, 3, 4));
-			System.out.println(local.call("testpackage.Testclass", "myMethod"));
-			System.out.println(local.call("testpackage.Testclass", "myMethod",
-					1));
+			System.out.println(local.<Object> call("testpackage.Testclass",
+					"myMethod", 1, 3, 4));
+			System.out.println(local.<Object> call("testpackage.Testclass",
+					"myMethod"));
+			System.out.println(local.<Object> call("testpackage.Testclass",
+					"myMethod", 1));
 			int[] a = { 12, 4, 1, 3 };
-			System.out.println(local.callsave("testpackage.Testclass",
+			System.out.println(local.<Object> callsave("testpackage.Testclass",
 					"integerArrayTest", a, null));
 
 			try {
-				System.out.println(local.call("testpackage.Testclass",
+				System.out.println(local.<Object> call("testpackage.Testclass",
 						"myException", 1));
 			} catch (RPCException e) {
 				e.getCause().printStackTrace();
@@ -44,8 +43,8 @@ public class Main {
 	}
 
 	/** RPC */
-	private static void rpc(RPCServiceProvider local) throws SocketException,
-			UnknownHostException, RPCException {
+	private static void rpc(RPCServiceProvider local) throws IOException,
+			RPCException {
 
 		{
 			/*
@@ -74,23 +73,24 @@ public class Main {
 			RPCRemoteServiceProvider remote = new RPCRemoteServiceProvider(
 					InetAddress.getByName("localhost"), port);
 
-			System.out.println(remote.call("testpackage.Testclass", "myMethod",
-					1, 3, 4));
-			System.out
-					.println(remote.call("testpackage.Testclass", "myMethod"));
-			System.out.println(remote.call("testpackage.Testclass", "myMethod",
-					1));
+			System.out.println(remote.<Object> call("testpackage.Testclass",
+					"myMethod", 1, 3, 4));
+			System.out.println(remote.<Object> call("testpackage.Testclass",
+					"myMethod"));
+			System.out.println(remote.<Object> call("testpackage.Testclass",
+					"myMethod", 1));
 			int[] b = { 12, 4, 1, 3 };
-			System.out.println(remote.callsave("testpackage.Testclass",
+			System.out.println(remote.<Object> callsave("testpackage.Testclass",
 					"integerArrayTest", b, null));
 			
 			try {
-				System.out.println(local.call("testpackage.Testclass",
+				System.out.println(local.<Object> call("testpackage.Testclass",
 						"myException", 1));
 			} catch (RPCException e) {
 				e.getCause().printStackTrace();
 			}
 
+			remote.close();
 			server.terminate();
 		}
 	}
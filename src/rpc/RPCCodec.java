@@ -0,0 +1,65 @@
+package rpc;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Kodiert Parameter, Rueckgabewerte und Exceptions fuer die Uebertragung. Der
+ * <tt>RPCRemoteServiceProvider</tt> und der <tt>RPCServerServiceProvider</tt>
+ * nutzen standardmaessig {@link RPCSecrets#DEFAULT_CODEC}; Client und Server
+ * muessen denselben Codec verwenden.
+ *
+ * <p>
+ * Implementierungen muessen thread-sicher sein.
+ * </p>
+ */
+public interface RPCCodec {
+	/**
+	 * Kodiert das gegebene Objekt inclusive der Typ-Informationen, die zum
+	 * Dekodieren noetig sind.
+	 *
+	 * @param obj
+	 *            das zu kodierende Objekt, darf <tt>null</tt> sein
+	 * @return die Kodierung
+	 */
+	ByteString encode(Object obj);
+
+	/**
+	 * Rekonstruiert ein mit {@link #encode(Object)} kodiertes Objekt.
+	 *
+	 * @param data
+	 *            die Kodierung
+	 * @return das Objekt
+	 * @throws ClassNotFoundException
+	 *             wenn die Klasse des Objektes der VM nicht zur Verfuegung
+	 *             steht.
+	 */
+	Object decode(ByteString data) throws ClassNotFoundException;
+
+	/**
+	 * Liefert einen Kodierer fuer Werte eines festen Typs, z.B. fuer einen
+	 * Parameter einer Methode. Er wird einmalig bestimmt; ein Codec kann dann
+	 * die Unterscheidung nach der Klasse des Wertes bei jedem Aufruf sparen.
+	 *
+	 * @param type
+	 *            der deklarierte Typ; ein primitiver Typ steht fuer seine
+	 *            boxende Klasse
+	 * @return ein Kodierer, der fuer jeden Wert dieses Typs und fuer
+	 *         <tt>null</tt> dieselbe Kodierung liefert wie
+	 *         {@link #encode(Object)}
+	 */
+	default Encoder encoder(Class<?> type) {
+		return this::encode;
+	}
+
+	/**
+	 * Kodiert Werte eines Typs, siehe {@link RPCCodec#encoder(Class)}.
+	 */
+	interface Encoder {
+		/**
+		 * @param obj
+		 *            das zu kodierende Objekt, darf <tt>null</tt> sein
+		 * @return die Kodierung
+		 */
+		ByteString encode(Object obj);
+	}
+}
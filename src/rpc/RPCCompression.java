@@ -0,0 +1,157 @@
+package rpc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import rpc.protobuf.RPCProtocol.Compression;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Komprimierung von Parametern und Ergebnissen.
+ *
+ * <p>
+ * Komprimiert wird nur, wenn die Daten mindestens eine gewisse Groesse haben
+ * und dadurch tatsaechlich kleiner werden. Das verwendete Verfahren steht im
+ * Feld <tt>compression</tt> des <tt>RPCCall</tt> bzw. <tt>RPCResult</tt>; mit
+ * <tt>RPCCall.accept</tt> teilt der Client mit, welche Verfahren er fuer das
+ * Ergebnis akzeptiert.
+ * </p>
+ */
+public final class RPCCompression {
+	/**
+	 * Standardgrenze in Bytes, ab der komprimiert wird. Kleinere Nachrichten
+	 * passen ohnehin in ein Datagramm.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	/**
+	 * Obergrenze fuer dekomprimierte Daten, damit wenige empfangene Bytes
+	 * nicht beliebig viel Speicher belegen koennen.
+	 */
+	private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+	private RPCCompression() {
+	}
+
+	/**
+	 * Waehlt das erste Verfahren aus der Liste des Aufrufenden, das
+	 * unterstuetzt wird.
+	 *
+	 * @param accepted
+	 *            die akzeptierten Verfahren (<tt>RPCCall.accept</tt>)
+	 * @return das Verfahren, {@link Compression#NONE} falls keines passt
+	 */
+	public static Compression choose(List<Compression> accepted) {
+		for (Compression compression : accepted) {
+			if (compression != Compression.NONE) {
+				return compression;
+			}
+		}
+		return Compression.NONE;
+	}
+
+	/**
+	 * Komprimiert einen Wert, falls er mindestens <tt>threshold</tt> Bytes
+	 * gross ist und dadurch kleiner wird.
+	 *
+	 * @return der komprimierte Wert oder <tt>null</tt>, falls nicht
+	 *         komprimiert werden soll
+	 */
+	public static ByteString compress(Compression compression, int threshold,
+			ByteString value) {
+		if (compression == Compression.NONE || value.size() < threshold) {
+			return null;
+		}
+		ByteString compressed = compress(compression, value);
+		return compressed.size() < value.size() ? compressed : null;
+	}
+
+	/**
+	 * Komprimiert alle Werte mit demselben Verfahren, falls sie zusammen
+	 * mindestens <tt>threshold</tt> Bytes gross sind und dadurch insgesamt
+	 * kleiner werden.
+	 *
+	 * @return die komprimierten Werte oder <tt>null</tt>, falls nicht
+	 *         komprimiert werden soll
+	 */
+	public static List<ByteString> compressAll(Compression compression,
+			int threshold, List<ByteString> values) {
+		if (compression == Compression.NONE) {
+			return null;
+		}
+		long size = 0;
+		for (ByteString value : values) {
+			size += value.size();
+		}
+		if (size < threshold) {
+			return null;
+		}
+		List<ByteString> compressed = new ArrayList<ByteString>(values.size());
+		long compressedSize = 0;
+		for (ByteString value : values) {
+			ByteString next = compress(compression, value);
+			compressedSize += next.size();
+			compressed.add(next);
+		}
+		return compressedSize < size ? compressed : null;
+	}
+
+	private static ByteString compress(Compression compression,
+			ByteString value) {
+		ByteString.Output bytes = ByteString.newOutput(value.size() / 2 + 64);
+		try (OutputStream out = compression == Compression.GZIP ? new GZIPOutputStream(
+				bytes) : new DeflaterOutputStream(bytes)) {
+			out.write(value.toByteArray());
+		} catch (IOException e) {
+			// writing to memory should not fail -> throw a runtime-exception instead
+			throw new RuntimeException(e);
+		}
+		return bytes.toByteString();
+	}
+
+	/**
+	 * Dekomprimiert einen Wert.
+	 *
+	 * @param compression
+	 *            das Verfahren, mit dem der Wert komprimiert wurde
+	 * @param value
+	 *            der (komprimierte) Wert
+	 * @return der dekomprimierte Wert; <tt>value</tt> selbst, falls
+	 *         <tt>compression</tt> {@link Compression#NONE} ist
+	 * @throws RPCException
+	 *             falls die Daten beschaedigt oder zu gross sind
+	 */
+	public static ByteString decompress(Compression compression,
+			ByteString value) throws RPCException {
+		if (compression == Compression.NONE) {
+			return value;
+		}
+		ByteString.Output bytes = ByteString.newOutput(Math.min(
+				value.size() * 4, 1024 * 1024));
+		/* closing the stream releases the native memory of the inflater */
+		try (InputStream in = compression == Compression.GZIP ? new GZIPInputStream(
+				value.newInput()) : new InflaterInputStream(value.newInput())) {
+			byte[] buffer = new byte[8192];
+			long size = 0;
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				size += read;
+				if (size > MAX_DECOMPRESSED_SIZE) {
+					throw new RPCException("decompressed value too large.");
+				}
+				bytes.write(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new RPCException("corrupt compressed value: " + e.getMessage());
+		}
+		return bytes.toByteString();
+	}
+}
@@ -0,0 +1,410 @@
+package rpc;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import rpc.protobuf.RPCProtocol.RPCFragment;
+import rpc.protobuf.RPCProtocol.RPCPacket;
+import rpc.protobuf.RPCProtocol.RPCResend;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Zerlegung von Nachrichten, die nicht in ein einzelnes Datagramm passen, und
+ * deren Zusammensetzung beim Empfaenger.
+ *
+ * <p>
+ * Der Sender zerlegt ein zu grosses {@link RPCPacket} mit
+ * {@link #split(long, RPCPacket)} in Stuecke von hoechstens
+ * {@link #MAX_DATAGRAM_SIZE} Bytes und haelt sie fuer eine gewisse Zeit vor.
+ * Von sich aus verschickt er nur die ersten {@link #WINDOW} Stuecke (siehe
+ * {@link #firstWindow(List)}). Der Empfaenger setzt die Stuecke mit einem
+ * {@link Reassembler} wieder zusammen und fordert die weiteren mit
+ * {@link RPCResend}-Nachrichten an, sobald die vorherigen eingetroffen sind.
+ * Bleiben Stuecke aus, so fordert er nur diese erneut an, statt den ganzen
+ * Aufruf wiederholen zu lassen.
+ * </p>
+ */
+public final class RPCFragmentation {
+	/**
+	 * Maximale Groesse eines Datagramms. Liegt unter der ueblichen
+	 * Ethernet-MTU, damit die Datagramme nicht von IP fragmentiert werden.
+	 */
+	public static final int MAX_DATAGRAM_SIZE = 1400;
+
+	/** Nutzdaten pro Stueck, der Rest bleibt fuer die Kopfdaten. */
+	private static final int FRAGMENT_SIZE = MAX_DATAGRAM_SIZE - 40;
+
+	/** Maximale Anzahl an Stuecken einer Nachricht (etwa 10 MiB). */
+	private static final int MAX_FRAGMENTS = 8192;
+
+	/**
+	 * Zeit in ms ohne neue Stuecke, nach der fehlende Stuecke erneut
+	 * angefordert werden.
+	 */
+	public static final int RESEND_DELAY = 100;
+
+	/**
+	 * Hoechstzahl der Stuecke einer Nachricht, die gleichzeitig unterwegs
+	 * sind. Der Sender verschickt zunaechst so viele, der Empfaenger fordert
+	 * die weiteren in Schritten von <tt>WINDOW / 2</tt> an. So laeuft der
+	 * Empfangspuffer auch bei grossen Nachrichten nicht ueber, und jede
+	 * Anforderung passt in ein Datagramm.
+	 */
+	public static final int WINDOW = 32;
+
+	/**
+	 * Wie oft fehlende Stuecke angefordert werden, bevor die unvollstaendige
+	 * Nachricht verworfen wird.
+	 */
+	private static final int MAX_RESEND_REQUESTS = 5;
+
+	private RPCFragmentation() {
+	}
+
+	/**
+	 * Serialisiert das Paket und zerlegt es, falls noetig, in mehrere
+	 * Datagramme.
+	 *
+	 * @param requestId
+	 *            Kennung des Aufrufes, zu dem das Paket gehoert
+	 * @param packet
+	 *            das zu versendende Paket
+	 * @return die zu versendenden Datagramme; genau eines, falls das Paket
+	 *         nicht zerlegt werden musste
+	 * @throws RPCException
+	 *             falls das Paket zu gross ist, um uebertragen zu werden
+	 */
+	public static List<byte[]> split(long requestId, RPCPacket packet)
+			throws RPCException {
+		byte[] message = packet.toByteArray();
+		if (message.length <= MAX_DATAGRAM_SIZE) {
+			return Collections.singletonList(message);
+		}
+		int count = (message.length + FRAGMENT_SIZE - 1) / FRAGMENT_SIZE;
+		if (count > MAX_FRAGMENTS) {
+			throw new RPCException("message too large: " + message.length
+					+ " bytes.");
+		}
+		List<byte[]> datagrams = new ArrayList<byte[]>(count);
+		for (int i = 0; i < count; i++) {
+			int offset = i * FRAGMENT_SIZE;
+			int length = Math.min(FRAGMENT_SIZE, message.length - offset);
+			RPCFragment.Builder fragment = RPCFragment.newBuilder();
+			fragment.setRequestid(requestId);
+			fragment.setIndex(i);
+			fragment.setCount(count);
+			fragment.setData(ByteString.copyFrom(message, offset, length));
+			datagrams.add(RPCPacket.newBuilder().setFragment(fragment).build()
+					.toByteArray());
+		}
+		return datagrams;
+	}
+
+	/**
+	 * @param datagrams
+	 *            die Datagramme, wie sie {@link #split(long, RPCPacket)}
+	 *            geliefert hat
+	 * @return die Datagramme, die der Sender ohne Anforderung verschickt
+	 */
+	public static List<byte[]> firstWindow(List<byte[]> datagrams) {
+		return datagrams.size() <= WINDOW ? datagrams : datagrams.subList(0,
+				WINDOW);
+	}
+
+	/**
+	 * Waehlt die angeforderten Stuecke aus den Datagrammen einer zerlegten
+	 * Nachricht aus. Ungueltige Positionen werden ignoriert.
+	 *
+	 * @param datagrams
+	 *            die Datagramme, wie sie {@link #split(long, RPCPacket)}
+	 *            geliefert hat
+	 * @param resend
+	 *            die Anforderung des Empfaengers
+	 * @return die erneut zu sendenden Datagramme
+	 */
+	public static List<byte[]> select(List<byte[]> datagrams, RPCResend resend) {
+		List<byte[]> selected = new ArrayList<byte[]>(resend.getMissingCount());
+		for (int index : resend.getMissingList()) {
+			if (index >= 0 && index < datagrams.size()) {
+				selected.add(datagrams.get(index));
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Schluessel einer Nachricht: Gegenstelle und Kennung des Aufrufes.
+	 */
+	private static final class Key {
+		private final SocketAddress peer;
+		private final long requestId;
+
+		Key(SocketAddress peer, long requestId) {
+			this.peer = peer;
+			this.requestId = requestId;
+		}
+
+		@Override
+		public int hashCode() {
+			return peer.hashCode() * 31 + (int) (requestId ^ (requestId >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return requestId == other.requestId && peer.equals(other.peer);
+		}
+	}
+
+	/**
+	 * Eine Anforderung fehlender Stuecke, die an <tt>peer</tt> zu senden ist.
+	 */
+	public static final class ResendRequest {
+		private final SocketAddress _peer;
+		private final RPCPacket _packet;
+
+		ResendRequest(SocketAddress peer, RPCPacket packet) {
+			_peer = peer;
+			_packet = packet;
+		}
+
+		public SocketAddress getPeer() {
+			return _peer;
+		}
+
+		public RPCPacket getPacket() {
+			return _packet;
+		}
+	}
+
+	/**
+	 * Setzt empfangene Stuecke wieder zu Nachrichten zusammen. Der belegte
+	 * Speicher ist durch <tt>maxBufferedBytes</tt> begrenzt; wird die Grenze
+	 * ueberschritten, so werden die aeltesten unvollstaendigen Nachrichten
+	 * verworfen.
+	 */
+	public static final class Reassembler {
+		private final long _maxBufferedBytes;
+		private long _bufferedBytes;
+		private final LinkedHashMap<Key, Partial> _partials = new LinkedHashMap<Key, Partial>();
+
+		/**
+		 * @param maxBufferedBytes
+		 *            Obergrenze fuer die Summe der zwischengespeicherten Bytes
+		 *            aller unvollstaendigen Nachrichten
+		 */
+		public Reassembler(long maxBufferedBytes) {
+			_maxBufferedBytes = maxBufferedBytes;
+		}
+
+		/**
+		 * Nimmt ein empfangenes Stueck entgegen.
+		 *
+		 * @param peer
+		 *            Absender des Stueckes
+		 * @param fragment
+		 *            das Stueck
+		 * @return die vollstaendige Nachricht, falls mit diesem Stueck alle
+		 *         Stuecke vorliegen, sonst <tt>null</tt>
+		 */
+		public synchronized ByteString add(SocketAddress peer,
+				RPCFragment fragment) {
+			int count = fragment.getCount();
+			int index = fragment.getIndex();
+			if (count < 1 || count > MAX_FRAGMENTS || index < 0
+					|| index >= count) {
+				return null;
+			}
+			Key key = new Key(peer, fragment.getRequestid());
+			Partial partial = _partials.get(key);
+			if (partial == null) {
+				partial = new Partial(count);
+				partial.next = Math.min(WINDOW, count);
+				_partials.put(key, partial);
+			} else if (partial.fragments.length != count) {
+				return null;
+			}
+			if (partial.fragments[index] != null) {
+				return null;
+			}
+			partial.fragments[index] = fragment.getData();
+			partial.received++;
+			if (index < partial.next) {
+				partial.receivedBelowNext++;
+			} else {
+				extend(partial, index + 1);
+			}
+			partial.bytes += fragment.getData().size();
+			partial.lastActivity = System.currentTimeMillis();
+			partial.resendRequests = 0;
+			_bufferedBytes += fragment.getData().size();
+
+			if (partial.received == count) {
+				remove(key, partial);
+				return ByteString.copyFrom(Arrays.asList(partial.fragments));
+			}
+			evict(key);
+			return null;
+		}
+
+		/**
+		 * Fordert die naechsten Stuecke einer Nachricht an, sobald von den
+		 * bisher angeforderten hoechstens <tt>WINDOW / 2</tt> ausstehen. Ist
+		 * nach jedem mit {@link #add(SocketAddress, RPCFragment)}
+		 * entgegengenommenen Stueck aufzurufen, das die Nachricht nicht
+		 * vervollstaendigt hat.
+		 *
+		 * @param peer
+		 *            Absender der Nachricht
+		 * @param requestId
+		 *            Kennung des Aufrufes, zu dem die Nachricht gehoert
+		 * @return die zu versendende Anforderung oder <tt>null</tt>, falls
+		 *         noch keine noetig ist
+		 */
+		public synchronized ResendRequest requestNext(SocketAddress peer,
+				long requestId) {
+			Key key = new Key(peer, requestId);
+			Partial partial = _partials.get(key);
+			if (partial == null || partial.next >= partial.fragments.length
+					|| partial.next - partial.receivedBelowNext > WINDOW / 2) {
+				return null;
+			}
+			return request(key, partial, partial.next, WINDOW / 2);
+		}
+
+		/**
+		 * Erzeugt die Anforderung der ersten fehlenden Stuecke ab Position
+		 * <tt>from</tt>.
+		 *
+		 * @param max
+		 *            Hoechstzahl der angeforderten Stuecke
+		 * @return die Anforderung oder <tt>null</tt>, falls ab
+		 *         <tt>from</tt> kein Stueck fehlt
+		 */
+		private ResendRequest request(Key key, Partial partial, int from,
+				int max) {
+			RPCResend.Builder resend = RPCResend.newBuilder();
+			resend.setRequestid(key.requestId);
+			int last = -1;
+			for (int i = from; i < partial.fragments.length
+					&& resend.getMissingCount() < max; i++) {
+				if (partial.fragments[i] == null) {
+					resend.addMissing(i);
+					last = i;
+				}
+			}
+			if (last < 0) {
+				return null;
+			}
+			extend(partial, last + 1);
+			return new ResendRequest(key.peer, RPCPacket.newBuilder()
+					.setResend(resend).build());
+		}
+
+		/**
+		 * Vermerkt, dass alle Stuecke vor <tt>next</tt> angefordert oder
+		 * empfangen wurden.
+		 */
+		private static void extend(Partial partial, int next) {
+			for (int i = partial.next; i < next; i++) {
+				if (partial.fragments[i] != null) {
+					partial.receivedBelowNext++;
+				}
+			}
+			partial.next = Math.max(partial.next, next);
+		}
+
+		/**
+		 * Verwirft die aeltesten unvollstaendigen Nachrichten, bis die
+		 * Speichergrenze wieder eingehalten wird. Die Nachricht
+		 * <tt>current</tt> wird zuletzt verworfen.
+		 */
+		private void evict(Key current) {
+			Iterator<Map.Entry<Key, Partial>> it = _partials.entrySet()
+					.iterator();
+			while (_bufferedBytes > _maxBufferedBytes && it.hasNext()) {
+				Map.Entry<Key, Partial> entry = it.next();
+				if (entry.getKey().equals(current) && _partials.size() > 1) {
+					continue;
+				}
+				_bufferedBytes -= entry.getValue().bytes;
+				it.remove();
+			}
+		}
+
+		private void remove(Key key, Partial partial) {
+			_partials.remove(key);
+			_bufferedBytes -= partial.bytes;
+		}
+
+		/**
+		 * @return <tt>true</tt>, falls keine unvollstaendigen Nachrichten
+		 *         vorliegen und {@link #sweep()} nichts zu tun hat.
+		 */
+		public synchronized boolean isEmpty() {
+			return _partials.isEmpty();
+		}
+
+		/**
+		 * Sucht unvollstaendige Nachrichten, fuer die seit
+		 * {@link RPCFragmentation#RESEND_DELAY} ms kein Stueck mehr
+		 * eingetroffen ist, und erzeugt fuer diese Anforderungen der ersten
+		 * {@link RPCFragmentation#WINDOW} fehlenden Stuecke. Nachrichten, fuer
+		 * die bereits zu oft Stuecke angefordert wurden, werden verworfen.
+		 *
+		 * @return die zu versendenden Anforderungen
+		 */
+		public synchronized List<ResendRequest> sweep() {
+			long now = System.currentTimeMillis();
+			List<ResendRequest> requests = new ArrayList<ResendRequest>();
+			Iterator<Map.Entry<Key, Partial>> it = _partials.entrySet()
+					.iterator();
+			while (it.hasNext()) {
+				Map.Entry<Key, Partial> entry = it.next();
+				Partial partial = entry.getValue();
+				if (now - partial.lastActivity < RESEND_DELAY) {
+					continue;
+				}
+				if (partial.resendRequests >= MAX_RESEND_REQUESTS) {
+					_bufferedBytes -= partial.bytes;
+					it.remove();
+					continue;
+				}
+				partial.resendRequests++;
+				partial.lastActivity = now;
+				ResendRequest request = request(entry.getKey(), partial, 0,
+						WINDOW);
+				if (request != null) {
+					requests.add(request);
+				}
+			}
+			return requests;
+		}
+
+		/** Eine unvollstaendige Nachricht. */
+		private static final class Partial {
+			private final ByteString[] fragments;
+			private int received;
+			/** Erstes Stueck, das weder angefordert noch empfangen wurde. */
+			private int next;
+			/** Anzahl der empfangenen Stuecke vor <tt>next</tt>. */
+			private int receivedBelowNext;
+			private long bytes;
+			private long lastActivity;
+			private int resendRequests;
+
+			Partial(int count) {
+				fragments = new ByteString[count];
+			}
+		}
+	}
+}
@@ -14,6 +14,12 @@ import com.google.protobuf.ByteString;
  * Eine Toolklasse mit allerlei nuetzlichen Methoden um RPCs zu ermoeglichen.
  */
 public final class RPCSecrets {
+	/**
+	 * Der Codec, den Client und Server verwenden, solange kein anderer gesetzt
+	 * wurde.
+	 */
+	public static final RPCCodec DEFAULT_CODEC = new RPCTaggedCodec();
+
 	/**
 	 * Serialisiert das gegebene Objekt. Diese Serialisierung enthaelt alle Daten um das Objekt wieder
 	 * zu deserialisieren, inclusive Typ-Informationen.
@@ -102,6 +108,22 @@ public final class RPCSecrets {
 	 * diese eine boxende Klasse eines primitiven Datentypen ist, sonst die original Klasse 
 	 */
 	public final static Class<?> warpToPrimitiveClass(Class<?> clazz) {
+		return PRIMITIVE_CLASSES.get(clazz);
+	}
+
+	/**
+	 * Zwischenspeicher fuer {@link #warpToPrimitiveClass(Class)}. Die
+	 * Reflection-Abfrage des Feldes <tt>TYPE</tt> wird so nur einmal pro Klasse
+	 * ausgefuehrt und nicht bei jedem Aufruf.
+	 */
+	private static final ClassValue<Class<?>> PRIMITIVE_CLASSES = new ClassValue<Class<?>>() {
+		@Override
+		protected Class<?> computeValue(Class<?> clazz) {
+			return lookupPrimitiveClass(clazz);
+		}
+	};
+
+	private static Class<?> lookupPrimitiveClass(Class<?> clazz) {
 		try {
 			/* alle boxenden Klassen haben nach Konvention das Feld TYPE, siehe Java-API */
 			Object obj = clazz.getField("TYPE").get(null);
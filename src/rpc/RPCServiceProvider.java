@@ -86,4 +86,69 @@ public abstract class RPCServiceProvider {
 	 */
 	public abstract <R> R callexplicit(String classname, String methodname,
 			Serializable[] params) throws RPCException;
+
+	/**
+	 * Gibt an, ob die aufgerufene Methode eine reine Funktion ihrer Parameter
+	 * ist, deren Ergebnis wiederverwendet werden darf. Standardmaessig ist
+	 * dies fuer keine Methode der Fall.
+	 * 
+	 * @param classname
+	 *            Name der Klasse, in der die statische Methode sich befindet
+	 * @param methodname
+	 *            Name der statischen Methode
+	 * @param params
+	 *            die Parameter des Aufrufes, ueber deren Typen die Methode
+	 *            bestimmt wird
+	 * @return <tt>true</tt>, falls das Ergebnis gespeichert werden darf
+	 */
+	public boolean isPure(String classname, String methodname,
+			Serializable[] params) {
+		return false;
+	}
+
+	/**
+	 * Vergibt eine Kennung fuer die aufgerufene Methode, mit der sie danach
+	 * ueber {@link #callById(int, Serializable[])} ohne Namen aufgerufen
+	 * werden kann. Standardmaessig werden keine Kennungen vergeben.
+	 * 
+	 * @param classname
+	 *            Name der Klasse, in der die statische Methode sich befindet
+	 * @param methodname
+	 *            Name der statischen Methode
+	 * @param params
+	 *            die Parameter eines Aufrufes, ueber deren Typen die Methode
+	 *            bestimmt wird
+	 * @return die Kennung, oder -1 falls keine vergeben werden kann
+	 */
+	public int methodId(String classname, String methodname,
+			Serializable[] params) {
+		return -1;
+	}
+
+	/**
+	 * Aufruf einer statischen Methode ueber ihre Kennung (siehe
+	 * {@link #methodId(String, String, Serializable[])}).
+	 * 
+	 * @param methodId
+	 *            die Kennung der Methode
+	 * @param params
+	 *            Array aller Parameter mit denen die statische Methode
+	 *            aufzurufen ist.
+	 * @return Rueckgabewert des Methodeaufrufs
+	 * @throws RPCException
+	 *             falls die Kennung unbekannt ist oder waernd des Aufrufes ein
+	 *             Versagen auftritt
+	 */
+	public <R> R callById(int methodId, Serializable[] params)
+			throws RPCException {
+		throw new RPCException("unknown method id " + methodId);
+	}
+
+	/**
+	 * Wie {@link #isPure(String, String, Serializable[])} fuer eine Methode,
+	 * die ueber ihre Kennung aufgerufen wurde.
+	 */
+	public boolean isPure(int methodId) {
+		return false;
+	}
 }
@@ -0,0 +1,412 @@
+package rpc;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * Der Standard-Codec. Primitive Datentypen, deren boxende Klassen,
+ * <tt>String</tt>s und <tt>byte[]</tt> werden kompakt kodiert: ein Byte fuer
+ * den Typ, gefolgt vom Wert in der Protobuf-Kodierung (Varint, ZigZag oder
+ * Fixed). Ein <tt>Integer</tt> belegt so zwei bis sechs Bytes statt etwa 80.
+ *
+ * <p>
+ * Arrays primitiver Datentypen werden wie gepackte Protobuf-Felder kodiert:
+ * nach dem Typ-Byte folgt die Laenge als Varint und dann die Elemente
+ * hintereinander. Beim Dekodieren wird direkt ein Array passender Groesse
+ * gefuellt, ohne Boxing.
+ * </p>
+ *
+ * <p>
+ * Alle anderen Objekte werden mit {@link RPCSecrets#serialize(Object)}
+ * serialisiert. Eine Java-Serialisierung beginnt immer mit dem Byte
+ * <tt>0xAC</tt>, das kein Typ-Byte ist; daran wird sie beim Dekodieren erkannt.
+ * </p>
+ */
+public final class RPCTaggedCodec implements RPCCodec {
+	private static final byte NULL = 1;
+	private static final byte FALSE = 2;
+	private static final byte TRUE = 3;
+	private static final byte BYTE = 4;
+	private static final byte SHORT = 5;
+	private static final byte CHAR = 6;
+	private static final byte INT = 7;
+	private static final byte LONG = 8;
+	private static final byte FLOAT = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte STRING = 11;
+	private static final byte BYTES = 12;
+	private static final byte BOOLEAN_ARRAY = 13;
+	private static final byte SHORT_ARRAY = 14;
+	private static final byte CHAR_ARRAY = 15;
+	private static final byte INT_ARRAY = 16;
+	private static final byte LONG_ARRAY = 17;
+	private static final byte FLOAT_ARRAY = 18;
+	private static final byte DOUBLE_ARRAY = 19;
+
+	/** Erstes Byte jeder Java-Serialisierung (<tt>STREAM_MAGIC</tt>). */
+	private static final byte JAVA_SERIALIZATION = (byte) 0xAC;
+
+	/** Typ-Byte plus hoechstens zehn Bytes Varint. */
+	private static final int MAX_NUMBER_SIZE = 11;
+
+	private static final ByteString ENCODED_NULL = ByteString
+			.copyFrom(new byte[] { NULL });
+	private static final ByteString ENCODED_FALSE = ByteString
+			.copyFrom(new byte[] { FALSE });
+	private static final ByteString ENCODED_TRUE = ByteString
+			.copyFrom(new byte[] { TRUE });
+
+	private static final Encoder BOOLEAN_ENCODER = obj -> obj == null
+			? ENCODED_NULL
+			: (Boolean) obj ? ENCODED_TRUE : ENCODED_FALSE;
+	private static final Encoder STRING_ENCODER = obj -> obj == null
+			? ENCODED_NULL
+			: tagged(STRING, ((String) obj).getBytes(StandardCharsets.UTF_8));
+	private static final Encoder BYTES_ENCODER = obj -> obj == null
+			? ENCODED_NULL
+			: tagged(BYTES, (byte[]) obj);
+	private static final Encoder ARRAY_ENCODER = obj -> obj == null
+			? ENCODED_NULL
+			: encodeArray(obj);
+	private static final Encoder SERIALIZED_ENCODER = obj -> obj == null
+			? ENCODED_NULL
+			: RPCSecrets.serialize(obj);
+
+	@Override
+	public ByteString encode(Object obj) {
+		if (obj == null) {
+			return ENCODED_NULL;
+		}
+		Class<?> clazz = obj.getClass();
+		if (clazz == Boolean.class) {
+			return (Boolean) obj ? ENCODED_TRUE : ENCODED_FALSE;
+		} else if (clazz == String.class) {
+			return tagged(STRING, ((String) obj).getBytes(StandardCharsets.UTF_8));
+		} else if (clazz == byte[].class) {
+			return tagged(BYTES, (byte[]) obj);
+		} else if (clazz.isArray() && clazz.getComponentType().isPrimitive()) {
+			return encodeArray(obj);
+		}
+		byte tag = numberTag(clazz);
+		if (tag != 0) {
+			return encodeNumber(tag, obj);
+		}
+		return RPCSecrets.serialize(obj);
+	}
+
+	/**
+	 * Waehlt die Kodierung anhand des deklarierten Typs. Nur bei Typen, die
+	 * keine Unterklassen haben koennen, steht die Kodierung damit fest; fuer
+	 * alle anderen wird {@link #encode(Object)} geliefert.
+	 */
+	@Override
+	public Encoder encoder(Class<?> type) {
+		if (type == boolean.class || type == Boolean.class) {
+			return BOOLEAN_ENCODER;
+		} else if (type == String.class) {
+			return STRING_ENCODER;
+		} else if (type == byte[].class) {
+			return BYTES_ENCODER;
+		} else if (type.isArray()) {
+			return type.getComponentType().isPrimitive() ? ARRAY_ENCODER
+					: SERIALIZED_ENCODER;
+		}
+		final byte tag = numberTag(type);
+		if (tag != 0) {
+			return obj -> obj == null ? ENCODED_NULL : encodeNumber(tag, obj);
+		} else if (Modifier.isFinal(type.getModifiers())) {
+			return SERIALIZED_ENCODER;
+		}
+		return this::encode;
+	}
+
+	/**
+	 * @return das Typ-Byte einer Zahl oder eines Zeichens dieser Klasse (bzw.
+	 *         dieses primitiven Typs), 0 fuer alle anderen Klassen
+	 */
+	private static byte numberTag(Class<?> clazz) {
+		if (clazz == Integer.class || clazz == int.class) {
+			return INT;
+		} else if (clazz == Long.class || clazz == long.class) {
+			return LONG;
+		} else if (clazz == Double.class || clazz == double.class) {
+			return DOUBLE;
+		} else if (clazz == Float.class || clazz == float.class) {
+			return FLOAT;
+		} else if (clazz == Short.class || clazz == short.class) {
+			return SHORT;
+		} else if (clazz == Byte.class || clazz == byte.class) {
+			return BYTE;
+		} else if (clazz == Character.class || clazz == char.class) {
+			return CHAR;
+		}
+		return 0;
+	}
+
+	/**
+	 * Kodiert eine Zahl oder ein Zeichen mit dem Typ-Byte aus
+	 * {@link #numberTag(Class)}.
+	 */
+	private static ByteString encodeNumber(byte tag, Object obj) {
+		byte[] buffer = new byte[MAX_NUMBER_SIZE];
+		CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+		try {
+			out.writeRawByte(tag);
+			switch (tag) {
+			case INT:
+				out.writeSInt32NoTag((Integer) obj);
+				break;
+			case LONG:
+				out.writeSInt64NoTag((Long) obj);
+				break;
+			case DOUBLE:
+				out.writeDoubleNoTag((Double) obj);
+				break;
+			case FLOAT:
+				out.writeFloatNoTag((Float) obj);
+				break;
+			case SHORT:
+				out.writeSInt32NoTag((Short) obj);
+				break;
+			case BYTE:
+				out.writeRawByte((Byte) obj);
+				break;
+			default:
+				out.writeUInt32NoTag((Character) obj);
+			}
+		} catch (IOException e) {
+			// the buffer is always large enough -> throw a runtime-exception instead
+			throw new RuntimeException(e);
+		}
+		return ByteString.copyFrom(buffer, 0, buffer.length - out.spaceLeft());
+	}
+
+	/**
+	 * Kodiert ein Array eines primitiven Datentyps (ausser <tt>byte[]</tt>).
+	 * Die Groesse wird vorab berechnet, damit genau ein Puffer passender
+	 * Laenge beschrieben wird.
+	 */
+	private static ByteString encodeArray(Object array) {
+		byte tag;
+		int size = 0;
+		if (array instanceof int[]) {
+			tag = INT_ARRAY;
+			for (int value : (int[]) array) {
+				size += CodedOutputStream.computeSInt32SizeNoTag(value);
+			}
+		} else if (array instanceof long[]) {
+			tag = LONG_ARRAY;
+			for (long value : (long[]) array) {
+				size += CodedOutputStream.computeSInt64SizeNoTag(value);
+			}
+		} else if (array instanceof double[]) {
+			tag = DOUBLE_ARRAY;
+			size = ((double[]) array).length * 8;
+		} else if (array instanceof float[]) {
+			tag = FLOAT_ARRAY;
+			size = ((float[]) array).length * 4;
+		} else if (array instanceof short[]) {
+			tag = SHORT_ARRAY;
+			for (short value : (short[]) array) {
+				size += CodedOutputStream.computeSInt32SizeNoTag(value);
+			}
+		} else if (array instanceof char[]) {
+			tag = CHAR_ARRAY;
+			for (char value : (char[]) array) {
+				size += CodedOutputStream.computeUInt32SizeNoTag(value);
+			}
+		} else {
+			tag = BOOLEAN_ARRAY;
+			size = ((boolean[]) array).length;
+		}
+		int length = Array.getLength(array);
+		byte[] buffer = new byte[1
+				+ CodedOutputStream.computeRawVarint32Size(length) + size];
+		CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+		try {
+			writeArray(out, tag, length, array);
+		} catch (IOException e) {
+			// the buffer is always large enough -> throw a runtime-exception instead
+			throw new RuntimeException(e);
+		}
+		return ByteString.copyFrom(buffer);
+	}
+
+	private static void writeArray(CodedOutputStream out, byte tag,
+			int length, Object array) throws IOException {
+		out.writeRawByte(tag);
+		out.writeRawVarint32(length);
+		switch (tag) {
+		case INT_ARRAY:
+			for (int value : (int[]) array) {
+				out.writeSInt32NoTag(value);
+			}
+			break;
+		case LONG_ARRAY:
+			for (long value : (long[]) array) {
+				out.writeSInt64NoTag(value);
+			}
+			break;
+		case DOUBLE_ARRAY:
+			for (double value : (double[]) array) {
+				out.writeDoubleNoTag(value);
+			}
+			break;
+		case FLOAT_ARRAY:
+			for (float value : (float[]) array) {
+				out.writeFloatNoTag(value);
+			}
+			break;
+		case SHORT_ARRAY:
+			for (short value : (short[]) array) {
+				out.writeSInt32NoTag(value);
+			}
+			break;
+		case CHAR_ARRAY:
+			for (char value : (char[]) array) {
+				out.writeUInt32NoTag(value);
+			}
+			break;
+		default:
+			for (boolean value : (boolean[]) array) {
+				out.writeBoolNoTag(value);
+			}
+		}
+		out.checkNoSpaceLeft();
+	}
+
+	private static ByteString tagged(byte tag, byte[] value) {
+		byte[] buffer = new byte[value.length + 1];
+		buffer[0] = tag;
+		System.arraycopy(value, 0, buffer, 1, value.length);
+		return ByteString.copyFrom(buffer);
+	}
+
+	@Override
+	public Object decode(ByteString data) throws ClassNotFoundException {
+		if (data.isEmpty()) {
+			throw new IllegalArgumentException("empty value");
+		}
+		byte tag = data.byteAt(0);
+		if (tag == JAVA_SERIALIZATION) {
+			return RPCSecrets.deserialize(data);
+		}
+		try {
+			CodedInputStream in = data.newCodedInput();
+			in.readRawByte();
+			switch (tag) {
+			case NULL:
+				return null;
+			case FALSE:
+				return Boolean.FALSE;
+			case TRUE:
+				return Boolean.TRUE;
+			case BYTE:
+				return in.readRawByte();
+			case SHORT:
+				return (short) in.readSInt32();
+			case CHAR:
+				return (char) in.readUInt32();
+			case INT:
+				return in.readSInt32();
+			case LONG:
+				return in.readSInt64();
+			case FLOAT:
+				return in.readFloat();
+			case DOUBLE:
+				return in.readDouble();
+			case STRING:
+				return new String(in.readRawBytes(data.size() - 1),
+						StandardCharsets.UTF_8);
+			case BYTES:
+				return in.readRawBytes(data.size() - 1);
+			case BOOLEAN_ARRAY:
+			case SHORT_ARRAY:
+			case CHAR_ARRAY:
+			case INT_ARRAY:
+			case LONG_ARRAY:
+			case FLOAT_ARRAY:
+			case DOUBLE_ARRAY:
+				return decodeArray(tag, in, data.size());
+			default:
+				throw new IllegalArgumentException("unknown type " + tag);
+			}
+		} catch (IOException e) {
+			// truncated value -> throw a runtime-exception like RPCSecrets does
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Dekodiert ein mit {@link #encodeArray(Object)} kodiertes Array.
+	 *
+	 * @param size
+	 *            Groesse der gesamten Kodierung; jedes Element belegt
+	 *            mindestens ein Byte, so dass eine gefaelschte Laenge keine
+	 *            beliebig grossen Arrays anlegen kann
+	 */
+	private static Object decodeArray(byte tag, CodedInputStream in, int size)
+			throws IOException {
+		int length = in.readRawVarint32();
+		if (length < 0 || length > size) {
+			throw new IllegalArgumentException("invalid array length " + length);
+		}
+		switch (tag) {
+		case INT_ARRAY: {
+			int[] array = new int[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = in.readSInt32();
+			}
+			return array;
+		}
+		case LONG_ARRAY: {
+			long[] array = new long[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = in.readSInt64();
+			}
+			return array;
+		}
+		case DOUBLE_ARRAY: {
+			double[] array = new double[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = in.readDouble();
+			}
+			return array;
+		}
+		case FLOAT_ARRAY: {
+			float[] array = new float[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = in.readFloat();
+			}
+			return array;
+		}
+		case SHORT_ARRAY: {
+			short[] array = new short[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = (short) in.readSInt32();
+			}
+			return array;
+		}
+		case CHAR_ARRAY: {
+			char[] array = new char[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = (char) in.readUInt32();
+			}
+			return array;
+		}
+		default: {
+			boolean[] array = new boolean[length];
+			for (int i = 0; i < length; i++) {
+				array[i] = in.readBool();
+			}
+			return array;
+		}
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package rpc.client;
+
+import java.io.Serializable;
+
+/**
+ * One call of a batch sent with
+ * {@link RPCRemoteServiceProvider#callBatch(java.util.List, boolean)}.
+ */
+public final class RPCBatchCall {
+	private final String _className;
+	private final String _methodName;
+	private final Serializable[] _params;
+
+	/**
+	 * @param className
+	 *            Name der Klasse, in der die aufzurufende statische Methode
+	 *            sich befindet
+	 * @param methodName
+	 *            Name der aufzurufenden statischen Methode
+	 * @param params
+	 *            Liste aller Parameter mit denen die statische Methode
+	 *            aufzurufen ist.
+	 */
+	public RPCBatchCall(String className, String methodName,
+			Serializable... params) {
+		_className = className;
+		_methodName = methodName;
+		_params = params;
+	}
+
+	public String getClassName() {
+		return _className;
+	}
+
+	public String getMethodName() {
+		return _methodName;
+	}
+
+	public Serializable[] getParams() {
+		return _params;
+	}
+}
@@ -1,34 +1,182 @@
 package rpc.client;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import rpc.RPCCodec;
+import rpc.RPCCompression;
 import rpc.RPCException;
+import rpc.RPCFragmentation;
+import rpc.RPCFragmentation.ResendRequest;
 import rpc.RPCSecrets;
 import rpc.RPCServiceProvider;
+import rpc.protobuf.RPCProtocol.Compression;
+import rpc.protobuf.RPCProtocol.RPCBatch;
+import rpc.protobuf.RPCProtocol.RPCBatchResult;
 import rpc.protobuf.RPCProtocol.RPCCall;
+import rpc.protobuf.RPCProtocol.RPCCancel;
+import rpc.protobuf.RPCProtocol.RPCPacket;
 import rpc.protobuf.RPCProtocol.RPCResult;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 
-public class RPCRemoteServiceProvider extends RPCServiceProvider {
-	private static final int MAX_ATTEMPTS = 5;
-	private static final int TIMEOUT = 2000;
+/**
+ * Client side of the RPC framework. Calls are sent to the server as
+ * <tt>RPCCall</tt> messages, each tagged with a request id. A receive thread
+ * reads all <tt>RPCResult</tt> messages from the socket and hands each one to
+ * the call with the same request id, so any number of calls can be
+ * outstanding at once (see {@link #callAsync(String, String, Serializable...)}).
+ * A client shared by many threads can spread its calls over several sockets
+ * (see {@link #RPCRemoteServiceProvider(InetAddress, int, int)}).
+ *
+ * <p>
+ * Calls and results that do not fit into one datagram are split into
+ * fragments (see {@link RPCFragmentation}). If fragments of a result go
+ * missing, only those are requested from the server again.
+ * </p>
+ *
+ * <p>
+ * Parameters and results above a size threshold are compressed (see
+ * {@link #setCompression(Compression, int)}).
+ * </p>
+ *
+ * <p>
+ * The first call of a method asks the server for a numeric id of the method.
+ * Later calls with the same parameter types send only that id instead of the
+ * class and method name. If the server was restarted in between, it rejects
+ * the id and the call is repeated with names.
+ * </p>
+ *
+ * <p>
+ * Results of pure methods can be cached on the client (see
+ * {@link #setResultCache(RPCResultCache)}).
+ * </p>
+ *
+ * <p>
+ * Many small calls can be sent together in one message with
+ * {@link #callBatch(List, boolean)}.
+ * </p>
+ *
+ * <p>
+ * Instead of naming class and method on every call, an interface can be bound
+ * to a class on the server with {@link #bind(Class, String)}.
+ * </p>
+ */
+public class RPCRemoteServiceProvider extends RPCServiceProvider implements
+		Closeable {
+	/** Default time in ms after which a call is given up. */
+	private static final long DEFAULT_CALL_TIMEOUT = 10000;
+	private static final int RECEIVE_BUFFER_SIZE = RPCFragmentation.MAX_DATAGRAM_SIZE;
+	private static final long MAX_REASSEMBLY_BYTES = 16 * 1024 * 1024;
+	/** Upper limit for the number of method ids remembered. */
+	private static final int MAX_METHOD_IDS = 4096;
 	private final InetAddress _server;
 	private final int _port;
-	private final DatagramSocket _socket;
+	private final Stripe[] _stripes;
+	private final AtomicLong _nextRequestId;
+	private final ScheduledExecutorService _timer;
+	private final RPCRoundTripEstimator _roundTrip = new RPCRoundTripEstimator();
+	private volatile long _callTimeout = DEFAULT_CALL_TIMEOUT;
+	private volatile RPCCodec _codec = RPCSecrets.DEFAULT_CODEC;
+	private volatile Compression _compression = Compression.DEFLATE;
+	private volatile int _compressionThreshold = RPCCompression.DEFAULT_THRESHOLD;
+	private volatile List<Compression> _accepted = Arrays.asList(
+			Compression.DEFLATE, Compression.GZIP);
+	private volatile RPCResultCache _resultCache;
+	private final ConcurrentMap<MethodSignature, MethodId> _methodIds = new ConcurrentHashMap<MethodSignature, MethodId>();
+	/** The epoch of the server the ids in <tt>_methodIds</tt> belong to. */
+	private long _serverEpoch;
+	private volatile boolean _closed;
+	/**
+	 * Write-locked by {@link #close()} while it shuts the timer down, so that
+	 * a call started under the read lock either sees the client closed or
+	 * has scheduled its retransmission before.
+	 */
+	private final ReadWriteLock _closeLock = new ReentrantReadWriteLock();
 
 	public RPCRemoteServiceProvider(final InetAddress server, final int port)
 			throws SocketException {
+		this(server, port, 1);
+	}
+
+	/**
+	 * Creates a client that spreads its calls over several sockets, each with
+	 * its own receive thread. Threads sharing the client then do not all
+	 * contend for a single socket, and results are received in parallel.
+	 *
+	 * @param server
+	 *            the address of the server
+	 * @param port
+	 *            the port of the server
+	 * @param sockets
+	 *            the number of sockets
+	 * @throws SocketException
+	 *             if a socket cannot be opened
+	 */
+	public RPCRemoteServiceProvider(InetAddress server, int port, int sockets)
+			throws SocketException {
+		if (sockets <= 0)
+			throw new IllegalArgumentException("sockets must be positive");
 		_server = server;
 		_port = port;
-		_socket = new DatagramSocket();
-		_socket.setSoTimeout(TIMEOUT);
+		_stripes = new Stripe[sockets];
+		try {
+			for (int i = 0; i < sockets; i++) {
+				_stripes[i] = new Stripe(i);
+			}
+		} catch (SocketException e) {
+			for (Stripe stripe : _stripes) {
+				if (stripe != null) {
+					stripe.socket.close();
+				}
+			}
+			throw e;
+		}
+		/*
+		 * random start, so that late replies meant for an earlier client on
+		 * the same port are not mistaken for ours
+		 */
+		_nextRequestId = new AtomicLong(ThreadLocalRandom.current().nextLong());
+
+		ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1,
+				r -> {
+					Thread thread = new Thread(r, "rpc-client-timer");
+					thread.setDaemon(true);
+					return thread;
+				});
+		timer.setRemoveOnCancelPolicy(true);
+		_timer = timer;
+
+		for (Stripe stripe : _stripes) {
+			stripe.receiver.start();
+		}
 	}
 
 	/**
@@ -41,85 +189,908 @@ public class RPCRemoteServiceProvider extends RPCServiceProvider {
 	@Override
 	public <R> R callexplicit(String className, String methodName,
 			Serializable[] params) throws RPCException {
-		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
-			sendCall(className, methodName, params);
-			try {
-				return receiveResult();
-			} catch (SocketTimeoutException e) {
-				continue;
-			}
-		}
-		throw new RPCException("Server not responding after " + MAX_ATTEMPTS
-				+ " attempts.");
+		return await(callAsync(className, methodName, params));
 	}
 
 	/**
-	 * Receives the result from the server and extract the return value
+	 * Waits for the result of a call.
 	 * 
-	 * @return the return value of the remote procedure call.
 	 * @throws RPCException
-	 *             if something goes wrong. Contains the exception thrown by the
-	 *             remote method.
-	 * @throws SocketTimeoutException
-	 *             if the server is not responding.
-	 */
-	private <R> R receiveResult() throws RPCException, SocketTimeoutException {
-		DatagramPacket packet = null;
-		RPCResult result = null;
-		byte[] buffer = new byte[1024];
+	 *             if the call failed or the thread was interrupted
+	 */
+	static <R> R await(CompletableFuture<R> future) throws RPCException {
 		try {
-			packet = new DatagramPacket(buffer, buffer.length);
-			_socket.receive(packet); //wait for the result
-
-			byte[] bytes = new byte[packet.getLength()];
-			for (int i = 0; i < packet.getLength(); i++) {
-				bytes[i] = buffer[i];
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RPCException) {
+				throw (RPCException) e.getCause();
 			}
-			result = RPCResult.parseFrom(bytes);
-			if (result.hasException()) {
-				throw (RPCException) RPCSecrets.deserialize(result
-						.getException());
-			} else {
-				return RPCSecrets.deserialize(result.getResult());
-			}
-		} catch (InvalidProtocolBufferException e) {
-			throw new RPCException("can not parse result.");
-		} catch (SocketTimeoutException e) {
-			throw e; //Aufgabenteil e)
-		} catch (IOException e1) {
-			throw new RPCException("connection error.");
-		} catch (ClassNotFoundException e) {
-			throw new RPCException("class not found.");
+			throw new RPCException(e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new RPCException(e);
 		}
 	}
 
 	/**
-	 * Sends a remote procedure call to the server.
-	 * 
+	 * Sends a remote procedure call without waiting for its result. The call
+	 * is retransmitted until a result arrives. The retransmission timeout
+	 * adapts to the measured round trip time and doubles with every attempt.
+	 * After the call timeout (see {@link #setCallTimeout(long)}) the call is
+	 * given up.
+	 *
+	 * <p>
+	 * The returned future is completed by a receive thread, so dependent
+	 * actions attached without an executor run on that thread and should not
+	 * block.
+	 * </p>
+	 *
+	 * <p>
+	 * Cancelling the future, or giving up after the call timeout, tells the
+	 * server to drop the call, or to interrupt it if it is already running.
+	 * </p>
+	 *
 	 * @param className
 	 *            the class name
 	 * @param methodName
 	 *            the procedure name
 	 * @param params
 	 *            the parameters
+	 * @return a future that completes with the return value of the remote
+	 *         method, or exceptionally with an {@link RPCException} if the
+	 *         method threw one or the server did not respond.
 	 */
-	private void sendCall(String className, String methodName,
-			Serializable[] params) {
+	public <R> CompletableFuture<R> callAsync(String className,
+			String methodName, Serializable... params) {
+		return call(className, methodName, encode(params),
+				MethodSignature.of(className, methodName, params));
+	}
+
+	/**
+	 * Binds an interface to a class on the server. Every method of the
+	 * interface calls the static method of the same name and parameter types
+	 * in that class. Methods that return a {@link CompletableFuture} are
+	 * called like {@link #callAsync(String, String, Serializable...)}, all
+	 * others wait for the result and have to declare {@link RPCException}.
+	 *
+	 * <p>
+	 * The methods of the interface are inspected once, here, and the codec
+	 * picks an encoder for each parameter type. Calls through the stub encode
+	 * their arguments right away, without building a varargs array or
+	 * determining the parameter types again.
+	 * </p>
+	 *
+	 * <p>
+	 * Where the parameter types are final, the stub knows the signature the
+	 * server resolves and calls the method by its id once the server has
+	 * assigned one. Arguments must not be <tt>null</tt>: such a call is sent
+	 * by name, like {@link #callAsync(String, String, Serializable...)} with
+	 * a <tt>null</tt> argument, and fails with an {@link RPCException}, since
+	 * the server resolves a call by the classes of its arguments.
+	 * </p>
+	 *
+	 * @param iface
+	 *            the interface
+	 * @param className
+	 *            the name of the class on the server
+	 * @return the stub
+	 * @throws IllegalArgumentException
+	 *             if a method of the interface cannot be called remotely
+	 */
+	public <T> T bind(Class<T> iface, String className) {
+		return RPCStub.create(this, iface, className);
+	}
+
+	/**
+	 * Sends a call.
+	 *
+	 * @param parameters
+	 *            the encoded parameters
+	 * @param signature
+	 *            the signature of the called method, or <tt>null</tt> if it
+	 *            cannot be determined; calls without one are always sent by
+	 *            name
+	 */
+	<R> CompletableFuture<R> call(String className, String methodName,
+			List<ByteString> parameters, MethodSignature signature) {
+		RPCResultCache cache = _resultCache;
+		RPCResultCache.Key cacheKey = cache == null ? null : cache.key(
+				className, methodName, parameters);
+		if (cacheKey != null) {
+			ByteString cached = cache.get(cacheKey);
+			if (cached != null) {
+				CompletableFuture<Object> future = new CompletableFuture<Object>();
+				try {
+					future.complete(_codec.decode(cached));
+				} catch (ClassNotFoundException e) {
+					future.completeExceptionally(new RPCException(
+							"class not found."));
+				}
+				@SuppressWarnings("unchecked")
+				CompletableFuture<R> result = (CompletableFuture<R>) future;
+				return result;
+			}
+		}
+		long requestId = _nextRequestId.getAndIncrement();
+		MethodId methodId = signature == null ? null : _methodIds
+				.get(signature);
+		RPCCall.Builder builder;
+		if (methodId != null) {
+			/* id and epoch from one entry, they always belong together */
+			builder = RPCCall.newBuilder();
+			builder.setMethodid(methodId.id);
+			builder.setEpoch(methodId.epoch);
+			addParameters(builder, parameters);
+		} else {
+			builder = buildCall(className, methodName, parameters);
+			builder.setResolve(signature != null);
+		}
+		builder.setRequestid(requestId);
+		builder.setTimeout(timeoutField(TimeUnit.MILLISECONDS
+				.toNanos(_callTimeout)));
+		PendingCall call = start(requestId, RPCPacket.newBuilder()
+				.setCall(builder).build(), cacheKey, signature);
+		@SuppressWarnings("unchecked")
+		CompletableFuture<R> future = (CompletableFuture<R>) call.future;
+		return future;
+	}
+
+	/**
+	 * Sends several calls in one message. The server answers all of them in
+	 * one message as well, which saves a datagram and its overhead per call.
+	 *
+	 * @param calls
+	 *            the calls
+	 * @param parallel
+	 *            whether the server may execute the calls in parallel;
+	 *            otherwise they are executed one after another in the given
+	 *            order
+	 * @return one future per call, in the order of <tt>calls</tt>; each
+	 *         completes like the future returned by
+	 *         {@link #callAsync(String, String, Serializable...)}
+	 */
+	public List<CompletableFuture<Object>> callBatch(List<RPCBatchCall> calls,
+			boolean parallel) {
+		long requestId = _nextRequestId.getAndIncrement();
+		RPCBatch.Builder batch = RPCBatch.newBuilder();
+		batch.setRequestid(requestId);
+		batch.setParallel(parallel);
+		final List<CompletableFuture<Object>> futures = new ArrayList<CompletableFuture<Object>>(
+				calls.size());
+		for (RPCBatchCall call : calls) {
+			batch.addCalls(buildCall(call.getClassName(), call.getMethodName(),
+					encode(call.getParams())));
+			futures.add(new CompletableFuture<Object>());
+		}
+		PendingCall call = start(requestId, RPCPacket.newBuilder()
+				.setBatch(batch).build(), null, null);
+		call.future.whenComplete((results, failure) -> {
+			for (int i = 0; i < futures.size(); i++) {
+				if (failure != null) {
+					futures.get(i).completeExceptionally(failure);
+				} else {
+					complete(futures.get(i),
+							((RPCBatchResult) results).getResults(i), null);
+				}
+			}
+		});
+		return futures;
+	}
+
+	/**
+	 * Encodes the parameters of a call.
+	 */
+	private List<ByteString> encode(Object[] params) {
+		RPCCodec codec = _codec;
+		List<ByteString> parameters = new ArrayList<ByteString>(params.length);
+		for (int i = 0; i < params.length; i++) {
+			parameters.add(codec.encode(params[i]));
+		}
+		return parameters;
+	}
+
+	/**
+	 * Builds the <tt>RPCCall</tt> message of a call.
+	 *
+	 * @param className
+	 *            the class name
+	 * @param methodName
+	 *            the procedure name
+	 * @param parameters
+	 *            the encoded parameters
+	 */
+	private RPCCall.Builder buildCall(String className, String methodName,
+			List<ByteString> parameters) {
 		RPCCall.Builder builder = RPCCall.newBuilder();
 		builder.setClassname(className);
 		builder.setMethodname(methodName);
-		for (int i = 0; i < params.length; i++) {
-			builder.addParameters(RPCSecrets.serialize(params[i]));
+		addParameters(builder, parameters);
+		return builder;
+	}
+
+	/**
+	 * Adds the parameters to the call, compressed if that is worthwhile, and
+	 * the compression algorithms accepted for the result.
+	 */
+	private void addParameters(RPCCall.Builder builder,
+			List<ByteString> parameters) {
+		Compression compression = _compression;
+		List<ByteString> compressed = RPCCompression.compressAll(compression,
+				_compressionThreshold, parameters);
+		if (compressed != null) {
+			builder.setCompression(compression);
+			parameters = compressed;
 		}
+		builder.addAllParameters(parameters);
+		builder.addAllAccept(_accepted);
+	}
 
-		RPCCall message = builder.build();
-		byte[] bytes = message.toByteArray();
-		DatagramPacket packet = new DatagramPacket(bytes, bytes.length,
-				_server, _port);
+	/**
+	 * Splits the packet into datagrams, registers it as outstanding and sends
+	 * it to the server.
+	 *
+	 * @param requestId
+	 *            the id of the call or batch
+	 * @param packet
+	 *            the packet containing the call or batch
+	 * @param cacheKey
+	 *            the key under which the result is cached, or <tt>null</tt>
+	 * @param signature
+	 *            the signature of the called method if the call is sent by
+	 *            method id or asks for one, otherwise <tt>null</tt>
+	 * @return the outstanding call; its future is already failed if the
+	 *         packet is too large or the client is closed
+	 */
+	private PendingCall start(long requestId, RPCPacket packet,
+			RPCResultCache.Key cacheKey, MethodSignature signature) {
+		List<byte[]> datagrams;
+		try {
+			datagrams = RPCFragmentation.split(requestId, packet);
+		} catch (RPCException e) {
+			PendingCall call = new PendingCall(null, requestId, null, 0, null,
+					null, null);
+			call.future.completeExceptionally(e);
+			return call;
+		}
+		Stripe stripe = _stripes.length == 1 ? _stripes[0]
+				: _stripes[ThreadLocalRandom.current().nextInt(_stripes.length)];
+		PendingCall call = new PendingCall(stripe, requestId, datagrams,
+				System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(_callTimeout),
+				cacheKey, signature, packet.hasCall() ? packet.getCall() : null);
+		boolean closed;
+		Lock lock = _closeLock.readLock();
+		lock.lock();
 		try {
-			_socket.send(packet);
-		} catch (IOException wmca) {
-			wmca.printStackTrace();
+			closed = _closed;
+			if (!closed) {
+				stripe.pending.put(requestId, call);
+				synchronized (call) {
+					transmit(call);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (closed) {
+			call.future.completeExceptionally(new RPCException(
+					"client is closed."));
+		} else if (packet.hasCall()) {
+			call.future.whenComplete((result, failure) -> {
+				if (failure instanceof CancellationException) {
+					cancel(call);
+				}
+			});
+		}
+		return call;
+	}
+
+	/**
+	 * Sends the call to the server and schedules its retransmission. Must be
+	 * called with the lock of <tt>call</tt> held.
+	 */
+	private void transmit(PendingCall call) {
+		call.attempts++;
+		long now = System.nanoTime();
+		if (call.attempts == 1) {
+			call.sentAt = now;
+		} else if (call.call != null) {
+			/* tell the server how long the caller is still waiting */
+			RPCCall.Builder builder = call.call.toBuilder();
+			builder.setTimeout(timeoutField(call.deadline - now));
+			try {
+				call.datagrams = RPCFragmentation.split(call.requestId,
+						RPCPacket.newBuilder().setCall(builder).build());
+			} catch (RPCException e) {
+				// cannot happen, the timeout has a fixed size
+			}
+		}
+		/*
+		 * the server asks for the remaining fragments; a retransmission only
+		 * sends the first one, which the server answers from its reply cache
+		 * if it has received the call already. A server that rejected the
+		 * call has dropped its fragments, so it gets the call like the first
+		 * time.
+		 */
+		List<byte[]> datagrams = call.attempts == 1 || call.rejected
+				? RPCFragmentation.firstWindow(call.datagrams)
+				: call.datagrams.subList(0, 1);
+		call.rejected = false;
+		for (byte[] datagram : datagrams) {
+			call.stripe.send(datagram);
+		}
+		long delay = Math.min(_roundTrip.timeout(call.attempts), call.deadline
+				- now);
+		scheduleTimeout(call, delay);
+	}
+
+	/**
+	 * Schedules {@link #onTimeout(PendingCall)} for a call. Must be called
+	 * with the lock of <tt>call</tt> held. If the client was closed in the
+	 * meantime, the timer is shut down and the call fails.
+	 *
+	 * @param delay
+	 *            the delay in nanoseconds
+	 */
+	private void scheduleTimeout(PendingCall call, long delay) {
+		try {
+			call.timeout = _timer.schedule(() -> onTimeout(call), delay,
+					TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			call.stripe.pending.remove(call.requestId);
+			call.future.completeExceptionally(new RPCException(
+					"client is closed."));
+		}
+	}
+
+	/**
+	 * @param remaining
+	 *            the time left until the deadline of a call in nanoseconds
+	 * @return the value of the timeout field, the time in ms rounded up and
+	 *         at least 1; a call past its deadline is given up by
+	 *         {@link #onTimeout(PendingCall)} right after it was sent
+	 */
+	private static int timeoutField(long remaining) {
+		long millis = (remaining + TimeUnit.MILLISECONDS.toNanos(1) - 1)
+				/ TimeUnit.MILLISECONDS.toNanos(1);
+		return (int) Math.max(1, Math.min(millis, 0xFFFFFFFFL));
+	}
+
+	/**
+	 * Called if no result arrived in time; retransmits the call or gives up
+	 * once its deadline has passed.
+	 */
+	private void onTimeout(PendingCall call) {
+		synchronized (call) {
+			if (call.future.isDone()) {
+				call.stripe.pending.remove(call.requestId); // cancelled by the caller
+				return;
+			}
+			if (System.nanoTime() - call.deadline < 0) {
+				transmit(call);
+				return;
+			}
+		}
+		cancel(call);
+		call.future.completeExceptionally(new RPCException(
+				"Server not responding after " + call.attempts + " attempts."));
+	}
+
+	/**
+	 * Forgets a call that was cancelled or given up and tells the server, so
+	 * that it does not execute it or stops executing it. The message is sent
+	 * only once; if it is lost, the server drops the call once its timeout
+	 * has passed.
+	 */
+	private void cancel(PendingCall call) {
+		if (call.stripe.pending.remove(call.requestId) == null) {
+			return; // already answered or cancelled
+		}
+		synchronized (call) {
+			if (call.timeout != null) {
+				call.timeout.cancel(false);
+			}
+		}
+		call.stripe.send(RPCPacket.newBuilder()
+				.setCancel(RPCCancel.newBuilder().setRequestid(call.requestId))
+				.build().toByteArray());
+	}
+
+	/**
+	 * Called if the server rejected a call because it is overloaded. The call
+	 * is sent again once the time the server asked for has passed, plus a
+	 * random share of it so that rejected clients do not all return at once.
+	 * If that is past the deadline of the call, it fails right away.
+	 *
+	 * @param retryAfterMillis
+	 *            the time in ms the server asked to wait
+	 */
+	private void postpone(Stripe stripe, long requestId, long retryAfterMillis) {
+		final PendingCall call = stripe.pending.get(requestId);
+		if (call == null) {
+			return;
+		}
+		long delay = TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+		delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+		synchronized (call) {
+			if (call.future.isDone()) {
+				return;
+			}
+			if (call.timeout != null) {
+				call.timeout.cancel(false);
+			}
+			if (System.nanoTime() + delay - call.deadline < 0) {
+				call.rejected = true;
+				scheduleTimeout(call, delay);
+				return;
+			}
+		}
+		stripe.pending.remove(requestId);
+		call.future.completeExceptionally(new RPCException(
+				"Server overloaded after " + call.attempts + " attempts."));
+	}
+
+	/**
+	 * Handles a packet received from the server on one of the sockets.
+	 */
+	private void handle(Stripe stripe, RPCPacket packet, SocketAddress server) {
+		if (packet.hasResult()) {
+			RPCResult result = packet.getResult();
+			if (result.hasRetryafter()) {
+				postpone(stripe, result.getRequestid(), result.getRetryafter());
+				return;
+			}
+			PendingCall call = stripe.pending.remove(result.getRequestid());
+			if (call != null) {
+				finish(call, result.getServicetime());
+				if (result.getUnknownmethod() && call.call != null
+						&& call.call.hasMethodid()) {
+					resendByName(call);
+					return;
+				}
+				if (result.hasMethodid() && call.signature != null) {
+					learnMethodId(call.signature, result.getMethodid(),
+							result.getEpoch());
+				}
+				complete(call.future, result, call.cacheKey);
+			}
+		} else if (packet.hasBatchresult()) {
+			RPCBatchResult results = packet.getBatchresult();
+			if (results.hasRetryafter()) {
+				postpone(stripe, results.getRequestid(),
+						results.getRetryafter());
+				return;
+			}
+			PendingCall call = stripe.pending.remove(results.getRequestid());
+			if (call != null) {
+				finish(call, results.getServicetime());
+				call.future.complete(results);
+			}
+		} else if (packet.hasFragment()) {
+			ByteString message = stripe.reassembler.add(server,
+					packet.getFragment());
+			if (message != null) {
+				try {
+					handle(stripe, RPCPacket.parseFrom(message), server);
+				} catch (InvalidProtocolBufferException e) {
+					// cannot be matched to a call
+				}
+			} else {
+				ResendRequest request = stripe.reassembler.requestNext(server,
+						packet.getFragment().getRequestid());
+				if (request != null) {
+					stripe.send(request.getPacket().toByteArray());
+				}
+			}
+		} else if (packet.hasResend()) {
+			/* the server misses fragments of a call */
+			PendingCall call = stripe.pending.get(packet.getResend()
+					.getRequestid());
+			if (call != null) {
+				for (byte[] datagram : RPCFragmentation.select(call.datagrams,
+						packet.getResend())) {
+					stripe.send(datagram);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remembers the id the server assigned to a method. Ids of an earlier
+	 * epoch are forgotten, they are no longer valid.
+	 */
+	private void learnMethodId(MethodSignature signature, int methodId,
+			long epoch) {
+		synchronized (_methodIds) {
+			if (epoch != _serverEpoch) {
+				_methodIds.clear();
+				_serverEpoch = epoch;
+			}
+			if (_methodIds.size() < MAX_METHOD_IDS) {
+				_methodIds.put(signature, new MethodId(methodId, epoch));
+			}
+		}
+	}
+
+	/**
+	 * Sends a call that the server rejected because its method id stems from
+	 * an earlier epoch again, this time with class and method name. The
+	 * outcome of the new call completes the future of the rejected one.
+	 */
+	private void resendByName(final PendingCall call) {
+		synchronized (_methodIds) {
+			_methodIds.clear();
+		}
+		long requestId = _nextRequestId.getAndIncrement();
+		RPCCall.Builder builder = call.call.toBuilder();
+		builder.clearMethodid();
+		builder.clearEpoch();
+		builder.setClassname(call.signature.className);
+		builder.setMethodname(call.signature.methodName);
+		builder.setResolve(true);
+		builder.setRequestid(requestId);
+		PendingCall retry = start(requestId, RPCPacket.newBuilder()
+				.setCall(builder).build(), call.cacheKey, call.signature);
+		call.future.whenComplete((value, failure) -> {
+			if (failure instanceof CancellationException) {
+				retry.future.cancel(false);
+			}
+		});
+		retry.future.whenComplete((value, failure) -> {
+			if (failure != null) {
+				call.future.completeExceptionally(failure);
+			} else {
+				call.future.complete(value);
+			}
+		});
+	}
+
+	/**
+	 * Stops the retransmission of a call that received its result.
+	 * 
+	 * @param serviceTime
+	 *            the microseconds the server spent on the call, which are not
+	 *            part of the network round trip
+	 */
+	private void finish(PendingCall call, int serviceTime) {
+		synchronized (call) {
+			if (call.timeout != null) {
+				call.timeout.cancel(false);
+			}
+			if (call.attempts == 1) {
+				/* only unambiguous round trips are sampled (Karn) */
+				long rtt = System.nanoTime() - call.sentAt
+						- TimeUnit.MICROSECONDS.toNanos(serviceTime & 0xFFFFFFFFL);
+				_roundTrip.sample(Math.max(rtt, 0));
+			}
+		}
+	}
+
+	/**
+	 * Extracts the return value from the result and completes the future.
+	 * 
+	 * @param cacheKey
+	 *            the key under which the return value is cached, or
+	 *            <tt>null</tt>
+	 */
+	private void complete(CompletableFuture<Object> future, RPCResult result,
+			RPCResultCache.Key cacheKey) {
+		RPCCodec codec = _codec;
+		try {
+			if (result.getUnknownmethod()) {
+				future.completeExceptionally(new RPCException(
+						"unknown method id."));
+			} else if (result.hasException()) {
+				future.completeExceptionally((RPCException) codec
+						.decode(RPCCompression.decompress(
+								result.getCompression(), result.getException())));
+			} else {
+				ByteString value = RPCCompression.decompress(
+						result.getCompression(), result.getResult());
+				if (cacheKey != null) {
+					cacheKey.put(value);
+				}
+				future.complete(codec.decode(value));
+			}
+		} catch (ClassNotFoundException e) {
+			future.completeExceptionally(new RPCException("class not found."));
+		} catch (RPCException e) {
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Sets the time after which calls are given up if the server does not
+	 * respond. Applies to calls started afterwards. Each transmission of a
+	 * call carries the time that is left until then, so that the server does
+	 * not execute or answer calls that have been given up already.
+	 *
+	 * @param millis
+	 *            the timeout in milliseconds
+	 */
+	public void setCallTimeout(long millis) {
+		if (millis <= 0)
+			throw new IllegalArgumentException("timeout must be positive");
+		_callTimeout = millis;
+	}
+
+	/**
+	 * Sets the codec used for parameters and results. The server has to use
+	 * the same codec. Results cached so far are discarded, since their keys
+	 * were encoded with the previous codec.
+	 *
+	 * @param codec
+	 *            the codec, {@link RPCSecrets#DEFAULT_CODEC} by default
+	 */
+	public void setCodec(RPCCodec codec) {
+		if (codec == null)
+			throw new NullPointerException("codec");
+		_codec = codec;
+		RPCResultCache cache = _resultCache;
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * @return the codec used for parameters and results
+	 */
+	RPCCodec codec() {
+		return _codec;
+	}
+
+	/**
+	 * Sets how the parameters of calls are compressed. The parameters of a
+	 * call are only compressed if they add up to at least <tt>threshold</tt>
+	 * bytes and get smaller by compressing them.
+	 *
+	 * @param compression
+	 *            the algorithm, {@link Compression#NONE} to turn compression
+	 *            off; {@link Compression#DEFLATE} by default
+	 * @param threshold
+	 *            the minimum size in bytes,
+	 *            {@link RPCCompression#DEFAULT_THRESHOLD} by default
+	 */
+	public void setCompression(Compression compression, int threshold) {
+		if (compression == null)
+			throw new NullPointerException("compression");
+		_compression = compression;
+		_compressionThreshold = threshold;
+	}
+
+	/**
+	 * Sets the algorithms the server may use to compress results, in order of
+	 * preference. Without any, results are sent uncompressed. Both
+	 * {@link Compression#DEFLATE} and {@link Compression#GZIP} are accepted by
+	 * default.
+	 *
+	 * @param accepted
+	 *            the accepted algorithms
+	 */
+	public void setAcceptedCompressions(Compression... accepted) {
+		_accepted = Arrays.asList(accepted.clone());
+	}
+
+	/**
+	 * Sets the cache for the results of pure methods. Calls of methods
+	 * registered with the cache are answered from it if possible. Calls sent
+	 * with {@link #callBatch(List, boolean)} bypass the cache.
+	 *
+	 * @param cache
+	 *            the cache, or <tt>null</tt> (the default) for none
+	 */
+	public void setResultCache(RPCResultCache cache) {
+		_resultCache = cache;
+	}
+
+	/**
+	 * Closes the sockets and stops the receive threads. Calls that are still
+	 * outstanding fail with an {@link RPCException}.
+	 */
+	@Override
+	public void close() {
+		Lock lock = _closeLock.writeLock();
+		lock.lock();
+		try {
+			_closed = true;
+			_timer.shutdownNow();
+		} finally {
+			lock.unlock();
+		}
+		for (Stripe stripe : _stripes) {
+			stripe.socket.close();
+			for (PendingCall call : stripe.pending.values()) {
+				call.future.completeExceptionally(new RPCException(
+						"client is closed."));
+			}
+			stripe.pending.clear();
+		}
+	}
+
+	/**
+	 * One socket of the client with its receive thread, the calls sent over
+	 * it and the results it is reassembling. The server answers on the socket
+	 * a call came from, so each socket only sees results of its own calls.
+	 */
+	private final class Stripe {
+		private final DatagramSocket socket;
+		private final ConcurrentMap<Long, PendingCall> pending = new ConcurrentHashMap<Long, PendingCall>();
+		private final RPCFragmentation.Reassembler reassembler = new RPCFragmentation.Reassembler(
+				MAX_REASSEMBLY_BYTES);
+		private final Thread receiver;
+
+		Stripe(int index) throws SocketException {
+			socket = new DatagramSocket();
+			receiver = new Thread(this::receiveLoop, "rpc-client-receiver-"
+					+ index);
+			receiver.setDaemon(true);
+		}
+
+		/**
+		 * Sends a datagram to the server.
+		 */
+		void send(byte[] datagram) {
+			DatagramPacket packet = new DatagramPacket(datagram,
+					datagram.length, _server, _port);
+			try {
+				socket.send(packet);
+			} catch (IOException wmca) {
+				wmca.printStackTrace();
+			}
+		}
+
+		/**
+		 * Receives results from the server and completes the matching calls until
+		 * the client is closed. Results without an outstanding call (for example
+		 * the late answer to a retransmitted call) are dropped.
+		 */
+		private void receiveLoop() {
+			byte[] buffer = new byte[RECEIVE_BUFFER_SIZE];
+			DatagramPacket datagram = new DatagramPacket(buffer, buffer.length);
+			long lastSweep = 0;
+			while (!_closed) {
+				RPCPacket packet;
+				try {
+					/* only wake up periodically while results are partially received */
+					socket.setSoTimeout(reassembler.isEmpty() ? 0
+							: RPCFragmentation.RESEND_DELAY);
+					datagram.setLength(buffer.length);
+					socket.receive(datagram);
+					/* protobuf copies all fields, so the buffer can be reused */
+					packet = RPCPacket.parseFrom(CodedInputStream.newInstance(
+							buffer, 0, datagram.getLength()));
+				} catch (InvalidProtocolBufferException e) {
+					continue; // cannot be matched to a call
+				} catch (SocketTimeoutException e) {
+					packet = null;
+				} catch (IOException e) {
+					if (!_closed) {
+						e.printStackTrace();
+					}
+					continue;
+				}
+				if (packet != null) {
+					handle(this, packet, datagram.getSocketAddress());
+				}
+				long now = System.currentTimeMillis();
+				if (now - lastSweep >= RPCFragmentation.RESEND_DELAY / 2
+						&& !reassembler.isEmpty()) {
+					lastSweep = now;
+					requestMissingFragments();
+				}
+			}
+		}
+
+		/**
+		 * Asks the server for fragments of results that have not arrived.
+		 */
+		private void requestMissingFragments() {
+			for (ResendRequest request : reassembler.sweep()) {
+				send(request.getPacket().toByteArray());
+			}
+		}
+	}
+
+	/**
+	 * A call that was sent but has not received its result yet.
+	 */
+	private static final class PendingCall {
+		/** The socket the call is sent over, <tt>null</tt> if not sent. */
+		private final Stripe stripe;
+		private final long requestId;
+		/**
+		 * The call as last sent, split into datagrams; replaced with every
+		 * retransmission of a call.
+		 */
+		private volatile List<byte[]> datagrams;
+		private final long deadline;
+		private final RPCResultCache.Key cacheKey;
+		private final MethodSignature signature;
+		/** The call as first sent, <tt>null</tt> for a batch. */
+		private final RPCCall call;
+		private final CompletableFuture<Object> future = new CompletableFuture<Object>();
+		private int attempts;
+		/** Whether the server rejected the last transmission as overloaded. */
+		private boolean rejected;
+		private long sentAt;
+		private ScheduledFuture<?> timeout;
+
+		PendingCall(Stripe stripe, long requestId, List<byte[]> datagrams,
+				long deadline, RPCResultCache.Key cacheKey,
+				MethodSignature signature, RPCCall call) {
+			this.stripe = stripe;
+			this.requestId = requestId;
+			this.datagrams = datagrams;
+			this.deadline = deadline;
+			this.cacheKey = cacheKey;
+			this.signature = signature;
+			this.call = call;
+		}
+	}
+
+	/**
+	 * A method id together with the epoch of the server that assigned it.
+	 */
+	private static final class MethodId {
+		private final int id;
+		private final long epoch;
+
+		MethodId(int id, long epoch) {
+			this.id = id;
+			this.epoch = epoch;
+		}
+	}
+
+	/**
+	 * Identifies a method on the server like the server does: class name,
+	 * method name and the classes of the parameters. Method ids are assigned
+	 * per signature.
+	 */
+	static final class MethodSignature {
+		private final String className;
+		private final String methodName;
+		private final Class<?>[] paramTypes;
+		private final int hash;
+
+		MethodSignature(String className, String methodName,
+				Class<?>[] paramTypes) {
+			this.className = className;
+			this.methodName = methodName;
+			this.paramTypes = paramTypes;
+			this.hash = (31 * className.hashCode() + methodName.hashCode())
+					* 31 + Arrays.hashCode(paramTypes);
+		}
+
+		/**
+		 * @return the signature of the call, or <tt>null</tt> if a parameter
+		 *         is <tt>null</tt> and the method cannot be determined by its
+		 *         type
+		 */
+		static MethodSignature of(String className, String methodName,
+				Object[] params) {
+			Class<?>[] paramTypes = new Class<?>[params.length];
+			for (int i = 0; i < params.length; i++) {
+				if (params[i] == null) {
+					return null;
+				}
+				paramTypes[i] = params[i].getClass();
+			}
+			return new MethodSignature(className, methodName, paramTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MethodSignature))
+				return false;
+			MethodSignature other = (MethodSignature) obj;
+			return hash == other.hash && className.equals(other.className)
+					&& methodName.equals(other.methodName)
+					&& Arrays.equals(paramTypes, other.paramTypes);
 		}
 	}
 }
@@ -0,0 +1,203 @@
+package rpc.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Caches the results of remote methods that are pure functions of their
+ * parameters, so that repeated calls with the same parameters are answered
+ * without a round trip to the server. Install it with
+ * {@link RPCRemoteServiceProvider#setResultCache(RPCResultCache)}.
+ *
+ * <p>
+ * Only methods registered with {@link #cache(String, String, long)} are
+ * cached, each with its own time to live. Results are keyed by class name,
+ * method name and the encoded parameters, and kept in their encoded form, so
+ * every hit returns a fresh copy that the caller may modify. Exceptions are
+ * never cached. The least recently used results are evicted once the cached
+ * bytes exceed the limit given to the constructor.
+ * </p>
+ */
+public final class RPCResultCache {
+	/** Rough per-entry overhead in bytes, counted against the limit. */
+	private static final int ENTRY_OVERHEAD = 64;
+
+	private final long _maxBytes;
+	private long _bytes;
+	private final LinkedHashMap<Key, Entry> _entries = new LinkedHashMap<Key, Entry>(
+			16, 0.75f, true);
+	private final ConcurrentMap<String, Long> _ttls = new ConcurrentHashMap<String, Long>();
+	private final AtomicLong _hits = new AtomicLong();
+	private final AtomicLong _misses = new AtomicLong();
+
+	/**
+	 * @param maxBytes
+	 *            upper limit for the encoded parameters and results held by
+	 *            the cache
+	 */
+	public RPCResultCache(long maxBytes) {
+		_maxBytes = maxBytes;
+	}
+
+	/**
+	 * Marks a method as pure, so that its results are cached.
+	 *
+	 * @param className
+	 *            the class name
+	 * @param methodName
+	 *            the procedure name; all overloads are cached
+	 * @param ttlMillis
+	 *            how long a result is used, in milliseconds
+	 */
+	public void cache(String className, String methodName, long ttlMillis) {
+		if (ttlMillis <= 0)
+			throw new IllegalArgumentException("ttl must be positive");
+		_ttls.put(method(className, methodName),
+				TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+	}
+
+	private static String method(String className, String methodName) {
+		return className + '#' + methodName;
+	}
+
+	/**
+	 * @return the key under which the result of the call is cached, or
+	 *         <tt>null</tt> if the method is not cached
+	 */
+	Key key(String className, String methodName, List<ByteString> params) {
+		Long ttl = _ttls.get(method(className, methodName));
+		return ttl == null ? null : new Key(this, className, methodName,
+				params, ttl);
+	}
+
+	/**
+	 * @return the encoded result, or <tt>null</tt> if none is cached or it
+	 *         has expired
+	 */
+	ByteString get(Key key) {
+		Entry entry;
+		synchronized (this) {
+			entry = _entries.get(key);
+			if (entry != null && System.nanoTime() - entry.expires >= 0) {
+				remove(key);
+				entry = null;
+			}
+		}
+		(entry == null ? _misses : _hits).incrementAndGet();
+		return entry == null ? null : entry.result;
+	}
+
+	synchronized void put(Key key, ByteString result) {
+		remove(key);
+		Entry entry = new Entry(result, System.nanoTime() + key.ttl,
+				key.size + result.size() + ENTRY_OVERHEAD);
+		_entries.put(key, entry);
+		_bytes += entry.bytes;
+		Iterator<Entry> it = _entries.values().iterator();
+		while (_bytes > _maxBytes && it.hasNext()) {
+			_bytes -= it.next().bytes;
+			it.remove();
+		}
+	}
+
+	private void remove(Key key) {
+		Entry entry = _entries.remove(key);
+		if (entry != null) {
+			_bytes -= entry.bytes;
+		}
+	}
+
+	/**
+	 * Removes all cached results. The registered methods and the counters
+	 * are kept.
+	 */
+	public synchronized void clear() {
+		_entries.clear();
+		_bytes = 0;
+	}
+
+	/**
+	 * @return the number of calls answered from the cache
+	 */
+	public long getHits() {
+		return _hits.get();
+	}
+
+	/**
+	 * @return the number of calls to cached methods that had to be sent to
+	 *         the server
+	 */
+	public long getMisses() {
+		return _misses.get();
+	}
+
+	/** A call: class name, method name and the encoded parameters. */
+	static final class Key {
+		private final RPCResultCache cache;
+		private final String className;
+		private final String methodName;
+		private final List<ByteString> params;
+		private final long ttl;
+		private final int hash;
+		private final long size;
+
+		Key(RPCResultCache cache, String className, String methodName,
+				List<ByteString> params, long ttl) {
+			this.cache = cache;
+			this.className = className;
+			this.methodName = methodName;
+			this.params = params;
+			this.ttl = ttl;
+			this.hash = (className.hashCode() * 31 + methodName.hashCode())
+					* 31 + params.hashCode();
+			long size = className.length() + methodName.length();
+			for (ByteString param : params) {
+				size += param.size();
+			}
+			this.size = size;
+		}
+
+		/**
+		 * Stores the encoded result of this call in the cache that created
+		 * the key.
+		 */
+		void put(ByteString result) {
+			cache.put(this, result);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return hash == other.hash && className.equals(other.className)
+					&& methodName.equals(other.methodName)
+					&& params.equals(other.params);
+		}
+	}
+
+	/** A cached result. */
+	private static final class Entry {
+		private final ByteString result;
+		private final long expires;
+		private final long bytes;
+
+		Entry(ByteString result, long expires, long bytes) {
+			this.result = result;
+			this.expires = expires;
+			this.bytes = bytes;
+		}
+	}
+}
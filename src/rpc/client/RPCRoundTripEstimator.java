@@ -0,0 +1,71 @@
+package rpc.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates the round trip time to a server and derives the retransmission
+ * timeout from it (Jacobson/Karels, as in RFC 6298). Every
+ * {@link RPCRemoteServiceProvider} talks to exactly one server and owns one
+ * estimator, so the estimate is kept per destination.
+ *
+ * <p>
+ * Only calls that were answered after their first transmission are sampled
+ * (Karn's algorithm): for a retransmitted call it is unknown which
+ * transmission the result belongs to. Each retransmission doubles the
+ * timeout, and a random jitter of up to 25% keeps clients that lost packets
+ * at the same time from retrying in lockstep.
+ * </p>
+ */
+final class RPCRoundTripEstimator {
+	/** Timeout before the first sample, in nanoseconds. */
+	private static final long INITIAL_TIMEOUT = TimeUnit.MILLISECONDS
+			.toNanos(1000);
+	/**
+	 * Lower bound of the timeout. Samples leave out the time the server spent
+	 * executing the call, so this only has to absorb scheduling jitter.
+	 */
+	private static final long MIN_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(5);
+	private static final long MAX_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
+	private long _smoothedRtt;
+	private long _rttVariance;
+	private long _timeout = INITIAL_TIMEOUT;
+
+	/**
+	 * Adds a measured round trip time to the estimate.
+	 *
+	 * @param rtt
+	 *            the round trip time in nanoseconds
+	 */
+	synchronized void sample(long rtt) {
+		if (_smoothedRtt == 0) {
+			_smoothedRtt = rtt;
+			_rttVariance = rtt / 2;
+		} else {
+			_rttVariance += (Math.abs(_smoothedRtt - rtt) - _rttVariance) / 4;
+			_smoothedRtt += (rtt - _smoothedRtt) / 8;
+		}
+		_timeout = Math.max(MIN_TIMEOUT, Math.min(MAX_TIMEOUT, _smoothedRtt + 4
+				* _rttVariance));
+	}
+
+	/**
+	 * @param attempt
+	 *            the number of the transmission, starting at 1
+	 * @return the time in nanoseconds to wait for a result before the call is
+	 *         transmitted again
+	 */
+	long timeout(int attempt) {
+		long timeout;
+		synchronized (this) {
+			timeout = _timeout;
+		}
+		for (int i = 1; i < attempt && timeout < MAX_TIMEOUT; i++) {
+			timeout *= 2;
+		}
+		timeout = Math.min(timeout, MAX_TIMEOUT);
+		return timeout + (long) (timeout * 0.25 * ThreadLocalRandom.current()
+				.nextDouble());
+	}
+}
@@ -0,0 +1,237 @@
+package rpc.client;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.protobuf.ByteString;
+
+import rpc.RPCCodec;
+import rpc.RPCException;
+import rpc.client.RPCRemoteServiceProvider.MethodSignature;
+
+/**
+ * Invocation handler of the stubs created by
+ * {@link RPCRemoteServiceProvider#bind(Class, String)}. Everything that can
+ * be derived from the interface alone is determined when the stub is
+ * created: which methods are asynchronous, the encoder of each parameter
+ * and, where the parameter types leave no choice, the signature under which
+ * the server assigns the method id.
+ */
+final class RPCStub implements InvocationHandler {
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private final RPCRemoteServiceProvider _provider;
+	private final Class<?> _iface;
+	private final String _className;
+	private final Map<Method, StubMethod> _methods;
+
+	private RPCStub(RPCRemoteServiceProvider provider, Class<?> iface,
+			String className, Map<Method, StubMethod> methods) {
+		_provider = provider;
+		_iface = iface;
+		_className = className;
+		_methods = methods;
+	}
+
+	static <T> T create(RPCRemoteServiceProvider provider, Class<T> iface,
+			String className) {
+		if (!iface.isInterface())
+			throw new IllegalArgumentException(iface.getName()
+					+ " is not an interface");
+		if (className == null)
+			throw new NullPointerException("className");
+		Map<Method, StubMethod> methods = new HashMap<Method, StubMethod>();
+		for (Method method : iface.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			methods.put(method,
+					StubMethod.of(className, method, provider.codec()));
+		}
+		Object stub = Proxy.newProxyInstance(iface.getClassLoader(),
+				new Class<?>[] { iface }, new RPCStub(provider, iface,
+						className, methods));
+		return iface.cast(stub);
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable {
+		StubMethod stubMethod = _methods.get(method);
+		if (stubMethod == null) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+		Object[] params = args == null ? NO_ARGS : args;
+		CompletableFuture<Object> future = _provider.call(_className,
+				stubMethod.methodName,
+				stubMethod.encode(params, _provider.codec()),
+				stubMethod.signature(params));
+		if (stubMethod.async) {
+			return future;
+		}
+		return RPCRemoteServiceProvider.await(future);
+	}
+
+	/**
+	 * Implements the methods of {@link Object} that are passed to the
+	 * handler; they are not called remotely.
+	 */
+	private Object invokeObjectMethod(Object proxy, Method method,
+			Object[] args) {
+		String name = method.getName();
+		if (name.equals("equals")) {
+			return proxy == args[0];
+		} else if (name.equals("hashCode")) {
+			return System.identityHashCode(proxy);
+		} else if (name.equals("toString")) {
+			return _iface.getName() + " -> " + _className;
+		}
+		throw new UnsupportedOperationException(method.toString());
+	}
+
+	/**
+	 * A method of the bound interface.
+	 */
+	private static final class StubMethod {
+		private final String className;
+		private final String methodName;
+		private final boolean async;
+		/**
+		 * The signature the server sees whenever no argument is
+		 * <tt>null</tt>, or <tt>null</tt> if it depends on the classes of the
+		 * arguments.
+		 */
+		private final MethodSignature signature;
+		private final Class<?>[] paramTypes;
+		/**
+		 * The encoders of the parameters; replaced if the codec of the
+		 * provider was changed after binding.
+		 */
+		private volatile Encoders encoders;
+
+		private StubMethod(String className, String methodName, boolean async,
+				MethodSignature signature, Class<?>[] paramTypes,
+				RPCCodec codec) {
+			this.className = className;
+			this.methodName = methodName;
+			this.async = async;
+			this.signature = signature;
+			this.paramTypes = paramTypes;
+			this.encoders = new Encoders(codec, paramTypes);
+		}
+
+		static StubMethod of(String className, Method method, RPCCodec codec) {
+			if (method.isDefault())
+				throw new IllegalArgumentException(
+						"default methods are not supported: " + method);
+			Class<?> returnType = method.getReturnType();
+			boolean async = returnType == CompletableFuture.class;
+			if (!async && !declares(method, RPCException.class))
+				throw new IllegalArgumentException(
+						"method must declare RPCException: " + method);
+			Class<?>[] declared = method.getParameterTypes();
+			Class<?>[] paramTypes = new Class<?>[declared.length];
+			for (int i = 0; i < declared.length; i++) {
+				Class<?> type = declared[i];
+				if (!type.isPrimitive()
+						&& !Serializable.class.isAssignableFrom(type))
+					throw new IllegalArgumentException(
+							"parameter types must be serializable: " + method);
+				if (paramTypes != null && exact(type)) {
+					/* the server sees the arguments boxed */
+					paramTypes[i] = MethodType.methodType(type).wrap()
+							.returnType();
+				} else {
+					paramTypes = null;
+				}
+			}
+			return new StubMethod(className, method.getName(), async,
+					paramTypes == null ? null : new MethodSignature(className,
+							method.getName(), paramTypes), declared, codec);
+		}
+
+		/**
+		 * @return whether every argument of this type has exactly this class
+		 */
+		private static boolean exact(Class<?> type) {
+			if (type.isArray()) {
+				return exact(type.getComponentType());
+			}
+			return type.isPrimitive() || Modifier.isFinal(type.getModifiers());
+		}
+
+		private static boolean declares(Method method,
+				Class<? extends Exception> exception) {
+			for (Class<?> type : method.getExceptionTypes()) {
+				if (type.isAssignableFrom(exception)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Encodes the arguments of a call.
+		 *
+		 * @param codec
+		 *            the current codec of the provider
+		 */
+		List<ByteString> encode(Object[] params, RPCCodec codec) {
+			Encoders current = encoders;
+			if (current.codec != codec) {
+				current = new Encoders(codec, paramTypes);
+				encoders = current;
+			}
+			List<ByteString> parameters = new ArrayList<ByteString>(
+					params.length);
+			for (int i = 0; i < params.length; i++) {
+				parameters.add(current.encoders[i].encode(params[i]));
+			}
+			return parameters;
+		}
+
+		/**
+		 * @return the signature of a call with the given arguments, or
+		 *         <tt>null</tt> if it cannot be determined; always
+		 *         <tt>null</tt> if an argument is <tt>null</tt>, so that the
+		 *         call is sent by name and fails on the server as described
+		 *         in {@link RPCRemoteServiceProvider#bind(Class, String)}
+		 */
+		MethodSignature signature(Object[] params) {
+			if (signature == null) {
+				return MethodSignature.of(className, methodName, params);
+			}
+			for (Object param : params) {
+				if (param == null) {
+					return null;
+				}
+			}
+			return signature;
+		}
+	}
+
+	/**
+	 * The encoders a codec picked for the parameter types of a method.
+	 */
+	private static final class Encoders {
+		private final RPCCodec codec;
+		private final RPCCodec.Encoder[] encoders;
+
+		Encoders(RPCCodec codec, Class<?>[] paramTypes) {
+			this.codec = codec;
+			this.encoders = new RPCCodec.Encoder[paramTypes.length];
+			for (int i = 0; i < paramTypes.length; i++) {
+				encoders[i] = codec.encoder(paramTypes[i]);
+			}
+		}
+	}
+}
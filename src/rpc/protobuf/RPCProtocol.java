@@ -8,14 +8,86 @@ public final class RPCProtocol {
   public static void registerAllExtensions(
       com.google.protobuf.ExtensionRegistry registry) {
   }
+  public enum Compression
+      implements com.google.protobuf.ProtocolMessageEnum {
+    NONE(0, 0),
+    DEFLATE(1, 1),
+    GZIP(2, 2),
+    ;
+    
+    public static final int NONE_VALUE = 0;
+    public static final int DEFLATE_VALUE = 1;
+    public static final int GZIP_VALUE = 2;
+    
+    
+    public final int getNumber() { return value; }
+    
+    public static Compression valueOf(int value) {
+      switch (value) {
+        case 0: return NONE;
+        case 1: return DEFLATE;
+        case 2: return GZIP;
+        default: return null;
+      }
+    }
+    
+    public static com.google.protobuf.Internal.EnumLiteMap<Compression>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<Compression>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Compression>() {
+            public Compression findValueByNumber(int number) {
+              return Compression.valueOf(number);
+            }
+          };
+    
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.getDescriptor().getEnumTypes().get(0);
+    }
+    
+    private static final Compression[] VALUES = {
+      NONE, DEFLATE, GZIP, 
+    };
+    
+    public static Compression valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+    
+    private final int index;
+    private final int value;
+    
+    private Compression(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+    
+    // @@protoc_insertion_point(enum_scope:rpc.protobuf.Compression)
+  }
+  
   public interface RPCCallOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
     
-    // required string classname = 1;
+    // optional string classname = 1;
     boolean hasClassname();
     String getClassname();
     
-    // required string methodname = 2;
+    // optional string methodname = 2;
     boolean hasMethodname();
     String getMethodname();
     
@@ -23,6 +95,35 @@ public final class RPCProtocol {
     java.util.List<com.google.protobuf.ByteString> getParametersList();
     int getParametersCount();
     com.google.protobuf.ByteString getParameters(int index);
+    
+    // optional uint64 requestid = 4;
+    boolean hasRequestid();
+    long getRequestid();
+    
+    // optional .rpc.protobuf.Compression compression = 5 [default = NONE];
+    boolean hasCompression();
+    rpc.protobuf.RPCProtocol.Compression getCompression();
+    
+    // repeated .rpc.protobuf.Compression accept = 6;
+    java.util.List<rpc.protobuf.RPCProtocol.Compression> getAcceptList();
+    int getAcceptCount();
+    rpc.protobuf.RPCProtocol.Compression getAccept(int index);
+    
+    // optional uint32 methodid = 7;
+    boolean hasMethodid();
+    int getMethodid();
+    
+    // optional uint64 epoch = 8;
+    boolean hasEpoch();
+    long getEpoch();
+    
+    // optional bool resolve = 9 [default = false];
+    boolean hasResolve();
+    boolean getResolve();
+    
+    // optional fixed32 timeout = 10;
+    boolean hasTimeout();
+    int getTimeout();
   }
   public static final class RPCCall extends
       com.google.protobuf.GeneratedMessage
@@ -53,7 +154,7 @@ public final class RPCProtocol {
     }
     
     private int bitField0_;
-    // required string classname = 1;
+    // optional string classname = 1;
     public static final int CLASSNAME_FIELD_NUMBER = 1;
     private java.lang.Object classname_;
     public boolean hasClassname() {
@@ -85,7 +186,7 @@ public final class RPCProtocol {
       }
     }
     
-    // required string methodname = 2;
+    // optional string methodname = 2;
     public static final int METHODNAME_FIELD_NUMBER = 2;
     private java.lang.Object methodname_;
     public boolean hasMethodname() {
@@ -131,24 +232,96 @@ public final class RPCProtocol {
       return parameters_.get(index);
     }
     
+    // optional uint64 requestid = 4;
+    public static final int REQUESTID_FIELD_NUMBER = 4;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    // optional .rpc.protobuf.Compression compression = 5 [default = NONE];
+    public static final int COMPRESSION_FIELD_NUMBER = 5;
+    private rpc.protobuf.RPCProtocol.Compression compression_;
+    public boolean hasCompression() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public rpc.protobuf.RPCProtocol.Compression getCompression() {
+      return compression_;
+    }
+    
+    // repeated .rpc.protobuf.Compression accept = 6;
+    public static final int ACCEPT_FIELD_NUMBER = 6;
+    private java.util.List<rpc.protobuf.RPCProtocol.Compression> accept_;
+    public java.util.List<rpc.protobuf.RPCProtocol.Compression> getAcceptList() {
+      return accept_;
+    }
+    public int getAcceptCount() {
+      return accept_.size();
+    }
+    public rpc.protobuf.RPCProtocol.Compression getAccept(int index) {
+      return accept_.get(index);
+    }
+    
+    // optional uint32 methodid = 7;
+    public static final int METHODID_FIELD_NUMBER = 7;
+    private int methodid_;
+    public boolean hasMethodid() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public int getMethodid() {
+      return methodid_;
+    }
+    
+    // optional uint64 epoch = 8;
+    public static final int EPOCH_FIELD_NUMBER = 8;
+    private long epoch_;
+    public boolean hasEpoch() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    public long getEpoch() {
+      return epoch_;
+    }
+    
+    // optional bool resolve = 9 [default = false];
+    public static final int RESOLVE_FIELD_NUMBER = 9;
+    private boolean resolve_;
+    public boolean hasResolve() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    public boolean getResolve() {
+      return resolve_;
+    }
+    
+    // optional fixed32 timeout = 10;
+    public static final int TIMEOUT_FIELD_NUMBER = 10;
+    private int timeout_;
+    public boolean hasTimeout() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    public int getTimeout() {
+      return timeout_;
+    }
+    
     private void initFields() {
       classname_ = "";
       methodname_ = "";
       parameters_ = java.util.Collections.emptyList();;
+      requestid_ = 0L;
+      compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+      accept_ = java.util.Collections.emptyList();
+      methodid_ = 0;
+      epoch_ = 0L;
+      resolve_ = false;
+      timeout_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
       
-      if (!hasClassname()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasMethodname()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -165,6 +338,27 @@ public final class RPCProtocol {
       for (int i = 0; i < parameters_.size(); i++) {
         output.writeBytes(3, parameters_.get(i));
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(4, requestid_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(5, compression_.getNumber());
+      }
+      for (int i = 0; i < accept_.size(); i++) {
+        output.writeEnum(6, accept_.get(i).getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt32(7, methodid_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeUInt64(8, epoch_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(9, resolve_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeFixed32(10, timeout_);
+      }
       getUnknownFields().writeTo(output);
     }
     
@@ -191,6 +385,39 @@ public final class RPCProtocol {
         size += dataSize;
         size += 1 * getParametersList().size();
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, requestid_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, compression_.getNumber());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < accept_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeEnumSizeNoTag(accept_.get(i).getNumber());
+        }
+        size += dataSize;
+        size += 1 * accept_.size();
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, methodid_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, epoch_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, resolve_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(10, timeout_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -321,6 +548,20 @@ public final class RPCProtocol {
         bitField0_ = (bitField0_ & ~0x00000002);
         parameters_ = java.util.Collections.emptyList();;
         bitField0_ = (bitField0_ & ~0x00000004);
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        accept_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        methodid_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        epoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        resolve_ = false;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        timeout_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
       
@@ -372,6 +613,35 @@ public final class RPCProtocol {
           bitField0_ = (bitField0_ & ~0x00000004);
         }
         result.parameters_ = parameters_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.requestid_ = requestid_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.compression_ = compression_;
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          accept_ = java.util.Collections.unmodifiableList(accept_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.accept_ = accept_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.methodid_ = methodid_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.epoch_ = epoch_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.resolve_ = resolve_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.timeout_ = timeout_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -404,19 +674,39 @@ public final class RPCProtocol {
           }
           onChanged();
         }
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.hasCompression()) {
+          setCompression(other.getCompression());
+        }
+        if (!other.accept_.isEmpty()) {
+          if (accept_.isEmpty()) {
+            accept_ = other.accept_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureAcceptIsMutable();
+            accept_.addAll(other.accept_);
+          }
+          onChanged();
+        }
+        if (other.hasMethodid()) {
+          setMethodid(other.getMethodid());
+        }
+        if (other.hasEpoch()) {
+          setEpoch(other.getEpoch());
+        }
+        if (other.hasResolve()) {
+          setResolve(other.getResolve());
+        }
+        if (other.hasTimeout()) {
+          setTimeout(other.getTimeout());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
       
       public final boolean isInitialized() {
-        if (!hasClassname()) {
-          
-          return false;
-        }
-        if (!hasMethodname()) {
-          
-          return false;
-        }
         return true;
       }
       
@@ -458,13 +748,74 @@ public final class RPCProtocol {
               parameters_.add(input.readBytes());
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+              rpc.protobuf.RPCProtocol.Compression value = rpc.protobuf.RPCProtocol.Compression.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(5, rawValue);
+              } else {
+                bitField0_ |= 0x00000010;
+                compression_ = value;
+              }
+              break;
+            }
+            case 48: {
+              int rawValue = input.readEnum();
+              rpc.protobuf.RPCProtocol.Compression value = rpc.protobuf.RPCProtocol.Compression.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(6, rawValue);
+              } else {
+                addAccept(value);
+              }
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int rawValue = input.readEnum();
+                rpc.protobuf.RPCProtocol.Compression value = rpc.protobuf.RPCProtocol.Compression.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(6, rawValue);
+                } else {
+                  addAccept(value);
+                }
+              }
+              input.popLimit(oldLimit);
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              methodid_ = input.readUInt32();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              epoch_ = input.readUInt64();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              resolve_ = input.readBool();
+              break;
+            }
+            case 85: {
+              bitField0_ |= 0x00000200;
+              timeout_ = input.readFixed32();
+              break;
+            }
           }
         }
       }
       
       private int bitField0_;
       
-      // required string classname = 1;
+      // optional string classname = 1;
       private java.lang.Object classname_ = "";
       public boolean hasClassname() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
@@ -500,7 +851,7 @@ public final class RPCProtocol {
         onChanged();
       }
       
-      // required string methodname = 2;
+      // optional string methodname = 2;
       private java.lang.Object methodname_ = "";
       public boolean hasMethodname() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
@@ -587,6 +938,186 @@ public final class RPCProtocol {
         return this;
       }
       
+      // optional uint64 requestid = 4;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000008;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // optional .rpc.protobuf.Compression compression = 5 [default = NONE];
+      private rpc.protobuf.RPCProtocol.Compression compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+      public boolean hasCompression() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public rpc.protobuf.RPCProtocol.Compression getCompression() {
+        return compression_;
+      }
+      public Builder setCompression(rpc.protobuf.RPCProtocol.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000010;
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+        onChanged();
+        return this;
+      }
+      
+      // repeated .rpc.protobuf.Compression accept = 6;
+      private java.util.List<rpc.protobuf.RPCProtocol.Compression> accept_ =
+        java.util.Collections.emptyList();
+      private void ensureAcceptIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          accept_ = new java.util.ArrayList<rpc.protobuf.RPCProtocol.Compression>(accept_);
+          bitField0_ |= 0x00000020;
+        }
+      }
+      public java.util.List<rpc.protobuf.RPCProtocol.Compression> getAcceptList() {
+        return java.util.Collections.unmodifiableList(accept_);
+      }
+      public int getAcceptCount() {
+        return accept_.size();
+      }
+      public rpc.protobuf.RPCProtocol.Compression getAccept(int index) {
+        return accept_.get(index);
+      }
+      public Builder setAccept(
+          int index, rpc.protobuf.RPCProtocol.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAcceptIsMutable();
+        accept_.set(index, value);
+        onChanged();
+        return this;
+      }
+      public Builder addAccept(rpc.protobuf.RPCProtocol.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAcceptIsMutable();
+        accept_.add(value);
+        onChanged();
+        return this;
+      }
+      public Builder addAllAccept(
+          java.lang.Iterable<? extends rpc.protobuf.RPCProtocol.Compression> values) {
+        ensureAcceptIsMutable();
+        super.addAll(values, accept_);
+        onChanged();
+        return this;
+      }
+      public Builder clearAccept() {
+        accept_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      
+      // optional uint32 methodid = 7;
+      private int methodid_ ;
+      public boolean hasMethodid() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      public int getMethodid() {
+        return methodid_;
+      }
+      public Builder setMethodid(int value) {
+        bitField0_ |= 0x00000040;
+        methodid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMethodid() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        methodid_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // optional uint64 epoch = 8;
+      private long epoch_ ;
+      public boolean hasEpoch() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      public long getEpoch() {
+        return epoch_;
+      }
+      public Builder setEpoch(long value) {
+        bitField0_ |= 0x00000080;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        epoch_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // optional bool resolve = 9 [default = false];
+      private boolean resolve_ ;
+      public boolean hasResolve() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      public boolean getResolve() {
+        return resolve_;
+      }
+      public Builder setResolve(boolean value) {
+        bitField0_ |= 0x00000100;
+        resolve_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearResolve() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        resolve_ = false;
+        onChanged();
+        return this;
+      }
+      
+      // optional fixed32 timeout = 10;
+      private int timeout_ ;
+      public boolean hasTimeout() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      public int getTimeout() {
+        return timeout_;
+      }
+      public Builder setTimeout(int value) {
+        bitField0_ |= 0x00000200;
+        timeout_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearTimeout() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        timeout_ = 0;
+        onChanged();
+        return this;
+      }
+      
       // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCCall)
     }
     
@@ -608,6 +1139,34 @@ public final class RPCProtocol {
     // optional bytes exception = 2;
     boolean hasException();
     com.google.protobuf.ByteString getException();
+    
+    // optional uint64 requestid = 3;
+    boolean hasRequestid();
+    long getRequestid();
+    
+    // optional .rpc.protobuf.Compression compression = 4 [default = NONE];
+    boolean hasCompression();
+    rpc.protobuf.RPCProtocol.Compression getCompression();
+    
+    // optional uint32 methodid = 5;
+    boolean hasMethodid();
+    int getMethodid();
+    
+    // optional uint64 epoch = 6;
+    boolean hasEpoch();
+    long getEpoch();
+    
+    // optional bool unknownmethod = 7 [default = false];
+    boolean hasUnknownmethod();
+    boolean getUnknownmethod();
+    
+    // optional uint32 retryafter = 8;
+    boolean hasRetryafter();
+    int getRetryafter();
+    
+    // optional uint32 servicetime = 9;
+    boolean hasServicetime();
+    int getServicetime();
   }
   public static final class RPCResult extends
       com.google.protobuf.GeneratedMessage
@@ -658,9 +1217,86 @@ public final class RPCProtocol {
       return exception_;
     }
     
+    // optional uint64 requestid = 3;
+    public static final int REQUESTID_FIELD_NUMBER = 3;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    // optional .rpc.protobuf.Compression compression = 4 [default = NONE];
+    public static final int COMPRESSION_FIELD_NUMBER = 4;
+    private rpc.protobuf.RPCProtocol.Compression compression_;
+    public boolean hasCompression() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public rpc.protobuf.RPCProtocol.Compression getCompression() {
+      return compression_;
+    }
+    
+    // optional uint32 methodid = 5;
+    public static final int METHODID_FIELD_NUMBER = 5;
+    private int methodid_;
+    public boolean hasMethodid() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public int getMethodid() {
+      return methodid_;
+    }
+    
+    // optional uint64 epoch = 6;
+    public static final int EPOCH_FIELD_NUMBER = 6;
+    private long epoch_;
+    public boolean hasEpoch() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    public long getEpoch() {
+      return epoch_;
+    }
+    
+    // optional bool unknownmethod = 7 [default = false];
+    public static final int UNKNOWNMETHOD_FIELD_NUMBER = 7;
+    private boolean unknownmethod_;
+    public boolean hasUnknownmethod() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    public boolean getUnknownmethod() {
+      return unknownmethod_;
+    }
+    
+    // optional uint32 retryafter = 8;
+    public static final int RETRYAFTER_FIELD_NUMBER = 8;
+    private int retryafter_;
+    public boolean hasRetryafter() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    public int getRetryafter() {
+      return retryafter_;
+    }
+    
+    // optional uint32 servicetime = 9;
+    public static final int SERVICETIME_FIELD_NUMBER = 9;
+    private int servicetime_;
+    public boolean hasServicetime() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    public int getServicetime() {
+      return servicetime_;
+    }
+    
     private void initFields() {
       result_ = com.google.protobuf.ByteString.EMPTY;
       exception_ = com.google.protobuf.ByteString.EMPTY;
+      requestid_ = 0L;
+      compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+      methodid_ = 0;
+      epoch_ = 0L;
+      unknownmethod_ = false;
+      retryafter_ = 0;
+      servicetime_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -680,6 +1316,27 @@ public final class RPCProtocol {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, exception_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(3, requestid_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(4, compression_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt32(5, methodid_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeUInt64(6, epoch_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(7, unknownmethod_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeUInt32(8, retryafter_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeUInt32(9, servicetime_);
+      }
       getUnknownFields().writeTo(output);
     }
     
@@ -697,6 +1354,34 @@ public final class RPCProtocol {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, exception_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, requestid_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, compression_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, methodid_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, epoch_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, unknownmethod_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(8, retryafter_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, servicetime_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -825,6 +1510,20 @@ public final class RPCProtocol {
         bitField0_ = (bitField0_ & ~0x00000001);
         exception_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        methodid_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        epoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        unknownmethod_ = false;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        retryafter_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        servicetime_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
       
@@ -871,7 +1570,35 @@ public final class RPCProtocol {
           to_bitField0_ |= 0x00000002;
         }
         result.exception_ = exception_;
-        result.bitField0_ = to_bitField0_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.requestid_ = requestid_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.compression_ = compression_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.methodid_ = methodid_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.epoch_ = epoch_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.unknownmethod_ = unknownmethod_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.retryafter_ = retryafter_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.servicetime_ = servicetime_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -893,6 +1620,27 @@ public final class RPCProtocol {
         if (other.hasException()) {
           setException(other.getException());
         }
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.hasCompression()) {
+          setCompression(other.getCompression());
+        }
+        if (other.hasMethodid()) {
+          setMethodid(other.getMethodid());
+        }
+        if (other.hasEpoch()) {
+          setEpoch(other.getEpoch());
+        }
+        if (other.hasUnknownmethod()) {
+          setUnknownmethod(other.getUnknownmethod());
+        }
+        if (other.hasRetryafter()) {
+          setRetryafter(other.getRetryafter());
+        }
+        if (other.hasServicetime()) {
+          setServicetime(other.getServicetime());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -934,6 +1682,47 @@ public final class RPCProtocol {
               exception_ = input.readBytes();
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 32: {
+              int rawValue = input.readEnum();
+              rpc.protobuf.RPCProtocol.Compression value = rpc.protobuf.RPCProtocol.Compression.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                compression_ = value;
+              }
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              methodid_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              epoch_ = input.readUInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              unknownmethod_ = input.readBool();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              retryafter_ = input.readUInt32();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              servicetime_ = input.readUInt32();
+              break;
+            }
           }
         }
       }
@@ -988,6 +1777,156 @@ public final class RPCProtocol {
         return this;
       }
       
+      // optional uint64 requestid = 3;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000004;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // optional .rpc.protobuf.Compression compression = 4 [default = NONE];
+      private rpc.protobuf.RPCProtocol.Compression compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+      public boolean hasCompression() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public rpc.protobuf.RPCProtocol.Compression getCompression() {
+        return compression_;
+      }
+      public Builder setCompression(rpc.protobuf.RPCProtocol.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        compression_ = rpc.protobuf.RPCProtocol.Compression.NONE;
+        onChanged();
+        return this;
+      }
+      
+      // optional uint32 methodid = 5;
+      private int methodid_ ;
+      public boolean hasMethodid() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public int getMethodid() {
+        return methodid_;
+      }
+      public Builder setMethodid(int value) {
+        bitField0_ |= 0x00000010;
+        methodid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearMethodid() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        methodid_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // optional uint64 epoch = 6;
+      private long epoch_ ;
+      public boolean hasEpoch() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      public long getEpoch() {
+        return epoch_;
+      }
+      public Builder setEpoch(long value) {
+        bitField0_ |= 0x00000020;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        epoch_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // optional bool unknownmethod = 7 [default = false];
+      private boolean unknownmethod_ ;
+      public boolean hasUnknownmethod() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      public boolean getUnknownmethod() {
+        return unknownmethod_;
+      }
+      public Builder setUnknownmethod(boolean value) {
+        bitField0_ |= 0x00000040;
+        unknownmethod_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearUnknownmethod() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        unknownmethod_ = false;
+        onChanged();
+        return this;
+      }
+      
+      // optional uint32 retryafter = 8;
+      private int retryafter_ ;
+      public boolean hasRetryafter() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      public int getRetryafter() {
+        return retryafter_;
+      }
+      public Builder setRetryafter(int value) {
+        bitField0_ |= 0x00000080;
+        retryafter_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRetryafter() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        retryafter_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // optional uint32 servicetime = 9;
+      private int servicetime_ ;
+      public boolean hasServicetime() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      public int getServicetime() {
+        return servicetime_;
+      }
+      public Builder setServicetime(int value) {
+        bitField0_ |= 0x00000100;
+        servicetime_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearServicetime() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        servicetime_ = 0;
+        onChanged();
+        return this;
+      }
+      
       // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCResult)
     }
     
@@ -999,52 +1938,4263 @@ public final class RPCProtocol {
     // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCResult)
   }
   
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_rpc_protobuf_RPCCall_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_rpc_protobuf_RPCCall_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_rpc_protobuf_RPCResult_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_rpc_protobuf_RPCResult_fieldAccessorTable;
-  
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+  public interface RPCFragmentOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+    
+    // required uint64 requestid = 1;
+    boolean hasRequestid();
+    long getRequestid();
+    
+    // required uint32 index = 2;
+    boolean hasIndex();
+    int getIndex();
+    
+    // required uint32 count = 3;
+    boolean hasCount();
+    int getCount();
+    
+    // required bytes data = 4;
+    boolean hasData();
+    com.google.protobuf.ByteString getData();
   }
-  private static com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\032src/rpc/protobuf/rpc.proto\022\014rpc.protob" +
-      "uf\"D\n\007RPCCall\022\021\n\tclassname\030\001 \002(\t\022\022\n\nmeth" +
-      "odname\030\002 \002(\t\022\022\n\nparameters\030\003 \003(\014\".\n\tRPCR" +
-      "esult\022\016\n\006result\030\001 \001(\014\022\021\n\texception\030\002 \001(\014" +
-      "B\033\n\014rpc.protobufB\013RPCProtocol"
-    };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
-        public com.google.protobuf.ExtensionRegistry assignDescriptors(
-            com.google.protobuf.Descriptors.FileDescriptor root) {
-          descriptor = root;
-          internal_static_rpc_protobuf_RPCCall_descriptor =
-            getDescriptor().getMessageTypes().get(0);
-          internal_static_rpc_protobuf_RPCCall_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_rpc_protobuf_RPCCall_descriptor,
-              new java.lang.String[] { "Classname", "Methodname", "Parameters", },
-              rpc.protobuf.RPCProtocol.RPCCall.class,
-              rpc.protobuf.RPCProtocol.RPCCall.Builder.class);
-          internal_static_rpc_protobuf_RPCResult_descriptor =
-            getDescriptor().getMessageTypes().get(1);
-          internal_static_rpc_protobuf_RPCResult_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_rpc_protobuf_RPCResult_descriptor,
-              new java.lang.String[] { "Result", "Exception", },
-              rpc.protobuf.RPCProtocol.RPCResult.class,
-              rpc.protobuf.RPCProtocol.RPCResult.Builder.class);
+  public static final class RPCFragment extends
+      com.google.protobuf.GeneratedMessage
+      implements RPCFragmentOrBuilder {
+    // Use RPCFragment.newBuilder() to construct.
+    private RPCFragment(Builder builder) {
+      super(builder);
+    }
+    private RPCFragment(boolean noInit) {}
+    
+    private static final RPCFragment defaultInstance;
+    public static RPCFragment getDefaultInstance() {
+      return defaultInstance;
+    }
+    
+    public RPCFragment getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+    
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCFragment_descriptor;
+    }
+    
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCFragment_fieldAccessorTable;
+    }
+    
+    private int bitField0_;
+    // required uint64 requestid = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    // required uint32 index = 2;
+    public static final int INDEX_FIELD_NUMBER = 2;
+    private int index_;
+    public boolean hasIndex() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public int getIndex() {
+      return index_;
+    }
+    
+    // required uint32 count = 3;
+    public static final int COUNT_FIELD_NUMBER = 3;
+    private int count_;
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public int getCount() {
+      return count_;
+    }
+    
+    // required bytes data = 4;
+    public static final int DATA_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString data_;
+    public boolean hasData() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+    
+    private void initFields() {
+      requestid_ = 0L;
+      index_ = 0;
+      count_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+      
+      if (!hasRequestid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasIndex()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCount()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasData()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+    
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestid_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, index_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, count_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, data_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+    
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+    
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestid_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, index_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, count_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, data_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+    
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+    
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCFragment parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(rpc.protobuf.RPCProtocol.RPCFragment prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+    
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCFragment_descriptor;
+      }
+      
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCFragment_fieldAccessorTable;
+      }
+      
+      // Construct using rpc.protobuf.RPCProtocol.RPCFragment.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+      
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+      
+      public Builder clear() {
+        super.clear();
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        index_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        count_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+      
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return rpc.protobuf.RPCProtocol.RPCFragment.getDescriptor();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCFragment getDefaultInstanceForType() {
+        return rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCFragment build() {
+        rpc.protobuf.RPCProtocol.RPCFragment result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+      
+      private rpc.protobuf.RPCProtocol.RPCFragment buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        rpc.protobuf.RPCProtocol.RPCFragment result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCFragment buildPartial() {
+        rpc.protobuf.RPCProtocol.RPCFragment result = new rpc.protobuf.RPCProtocol.RPCFragment(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestid_ = requestid_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.index_ = index_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.count_ = count_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.data_ = data_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+      
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof rpc.protobuf.RPCProtocol.RPCFragment) {
+          return mergeFrom((rpc.protobuf.RPCProtocol.RPCFragment)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+      
+      public Builder mergeFrom(rpc.protobuf.RPCProtocol.RPCFragment other) {
+        if (other == rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance()) return this;
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.hasIndex()) {
+          setIndex(other.getIndex());
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        if (other.hasData()) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+      
+      public final boolean isInitialized() {
+        if (!hasRequestid()) {
+          
+          return false;
+        }
+        if (!hasIndex()) {
+          
+          return false;
+        }
+        if (!hasCount()) {
+          
+          return false;
+        }
+        if (!hasData()) {
+          
+          return false;
+        }
+        return true;
+      }
+      
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              index_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              count_ = input.readUInt32();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              data_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      }
+      
+      private int bitField0_;
+      
+      // required uint64 requestid = 1;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000001;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // required uint32 index = 2;
+      private int index_ ;
+      public boolean hasIndex() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public int getIndex() {
+        return index_;
+      }
+      public Builder setIndex(int value) {
+        bitField0_ |= 0x00000002;
+        index_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearIndex() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        index_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // required uint32 count = 3;
+      private int count_ ;
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public int getCount() {
+        return count_;
+      }
+      public Builder setCount(int value) {
+        bitField0_ |= 0x00000004;
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // required bytes data = 4;
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+      
+      // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCFragment)
+    }
+    
+    static {
+      defaultInstance = new RPCFragment(true);
+      defaultInstance.initFields();
+    }
+    
+    // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCFragment)
+  }
+  
+  public interface RPCResendOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+    
+    // required uint64 requestid = 1;
+    boolean hasRequestid();
+    long getRequestid();
+    
+    // repeated uint32 missing = 2 [packed = true];
+    java.util.List<java.lang.Integer> getMissingList();
+    int getMissingCount();
+    int getMissing(int index);
+  }
+  public static final class RPCResend extends
+      com.google.protobuf.GeneratedMessage
+      implements RPCResendOrBuilder {
+    // Use RPCResend.newBuilder() to construct.
+    private RPCResend(Builder builder) {
+      super(builder);
+    }
+    private RPCResend(boolean noInit) {}
+    
+    private static final RPCResend defaultInstance;
+    public static RPCResend getDefaultInstance() {
+      return defaultInstance;
+    }
+    
+    public RPCResend getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+    
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCResend_descriptor;
+    }
+    
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCResend_fieldAccessorTable;
+    }
+    
+    private int bitField0_;
+    // required uint64 requestid = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    // repeated uint32 missing = 2 [packed = true];
+    public static final int MISSING_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> missing_;
+    public java.util.List<java.lang.Integer>
+        getMissingList() {
+      return missing_;
+    }
+    public int getMissingCount() {
+      return missing_.size();
+    }
+    public int getMissing(int index) {
+      return missing_.get(index);
+    }
+    private int missingMemoizedSerializedSize = -1;
+    
+    private void initFields() {
+      requestid_ = 0L;
+      missing_ = java.util.Collections.emptyList();;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+      
+      if (!hasRequestid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+    
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestid_);
+      }
+      if (getMissingList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(missingMemoizedSerializedSize);
+      }
+      for (int i = 0; i < missing_.size(); i++) {
+        output.writeUInt32NoTag(missing_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+    
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+    
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestid_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < missing_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(missing_.get(i));
+        }
+        size += dataSize;
+        if (!getMissingList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        missingMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+    
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+    
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCResend parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(rpc.protobuf.RPCProtocol.RPCResend prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+    
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements rpc.protobuf.RPCProtocol.RPCResendOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCResend_descriptor;
+      }
+      
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCResend_fieldAccessorTable;
+      }
+      
+      // Construct using rpc.protobuf.RPCProtocol.RPCResend.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+      
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+      
+      public Builder clear() {
+        super.clear();
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        missing_ = java.util.Collections.emptyList();;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+      
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return rpc.protobuf.RPCProtocol.RPCResend.getDescriptor();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCResend getDefaultInstanceForType() {
+        return rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCResend build() {
+        rpc.protobuf.RPCProtocol.RPCResend result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+      
+      private rpc.protobuf.RPCProtocol.RPCResend buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        rpc.protobuf.RPCProtocol.RPCResend result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCResend buildPartial() {
+        rpc.protobuf.RPCProtocol.RPCResend result = new rpc.protobuf.RPCProtocol.RPCResend(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestid_ = requestid_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          missing_ = java.util.Collections.unmodifiableList(missing_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.missing_ = missing_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+      
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof rpc.protobuf.RPCProtocol.RPCResend) {
+          return mergeFrom((rpc.protobuf.RPCProtocol.RPCResend)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+      
+      public Builder mergeFrom(rpc.protobuf.RPCProtocol.RPCResend other) {
+        if (other == rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance()) return this;
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (!other.missing_.isEmpty()) {
+          if (missing_.isEmpty()) {
+            missing_ = other.missing_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureMissingIsMutable();
+            missing_.addAll(other.missing_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+      
+      public final boolean isInitialized() {
+        if (!hasRequestid()) {
+          
+          return false;
+        }
+        return true;
+      }
+      
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              ensureMissingIsMutable();
+              missing_.add(input.readUInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              while (input.getBytesUntilLimit() > 0) {
+                addMissing(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      }
+      
+      private int bitField0_;
+      
+      // required uint64 requestid = 1;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000001;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // repeated uint32 missing = 2 [packed = true];
+      private java.util.List<java.lang.Integer> missing_ = java.util.Collections.emptyList();;
+      private void ensureMissingIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          missing_ = new java.util.ArrayList<java.lang.Integer>(missing_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      public java.util.List<java.lang.Integer>
+          getMissingList() {
+        return java.util.Collections.unmodifiableList(missing_);
+      }
+      public int getMissingCount() {
+        return missing_.size();
+      }
+      public int getMissing(int index) {
+        return missing_.get(index);
+      }
+      public Builder setMissing(
+          int index, int value) {
+        ensureMissingIsMutable();
+        missing_.set(index, value);
+        onChanged();
+        return this;
+      }
+      public Builder addMissing(int value) {
+        ensureMissingIsMutable();
+        missing_.add(value);
+        onChanged();
+        return this;
+      }
+      public Builder addAllMissing(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureMissingIsMutable();
+        super.addAll(values, missing_);
+        onChanged();
+        return this;
+      }
+      public Builder clearMissing() {
+        missing_ = java.util.Collections.emptyList();;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      
+      // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCResend)
+    }
+    
+    static {
+      defaultInstance = new RPCResend(true);
+      defaultInstance.initFields();
+    }
+    
+    // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCResend)
+  }
+  
+  public interface RPCBatchOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+    
+    // required uint64 requestid = 1;
+    boolean hasRequestid();
+    long getRequestid();
+    
+    // repeated .rpc.protobuf.RPCCall calls = 2;
+    java.util.List<rpc.protobuf.RPCProtocol.RPCCall> 
+        getCallsList();
+    rpc.protobuf.RPCProtocol.RPCCall getCalls(int index);
+    int getCallsCount();
+    java.util.List<? extends rpc.protobuf.RPCProtocol.RPCCallOrBuilder> 
+        getCallsOrBuilderList();
+    rpc.protobuf.RPCProtocol.RPCCallOrBuilder getCallsOrBuilder(
+        int index);
+    
+    // optional bool parallel = 3 [default = false];
+    boolean hasParallel();
+    boolean getParallel();
+  }
+  public static final class RPCBatch extends
+      com.google.protobuf.GeneratedMessage
+      implements RPCBatchOrBuilder {
+    // Use RPCBatch.newBuilder() to construct.
+    private RPCBatch(Builder builder) {
+      super(builder);
+    }
+    private RPCBatch(boolean noInit) {}
+    
+    private static final RPCBatch defaultInstance;
+    public static RPCBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+    
+    public RPCBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+    
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatch_descriptor;
+    }
+    
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatch_fieldAccessorTable;
+    }
+    
+    private int bitField0_;
+    // required uint64 requestid = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    // repeated .rpc.protobuf.RPCCall calls = 2;
+    public static final int CALLS_FIELD_NUMBER = 2;
+    private java.util.List<rpc.protobuf.RPCProtocol.RPCCall> calls_;
+    public java.util.List<rpc.protobuf.RPCProtocol.RPCCall> getCallsList() {
+      return calls_;
+    }
+    public java.util.List<? extends rpc.protobuf.RPCProtocol.RPCCallOrBuilder> 
+        getCallsOrBuilderList() {
+      return calls_;
+    }
+    public int getCallsCount() {
+      return calls_.size();
+    }
+    public rpc.protobuf.RPCProtocol.RPCCall getCalls(int index) {
+      return calls_.get(index);
+    }
+    public rpc.protobuf.RPCProtocol.RPCCallOrBuilder getCallsOrBuilder(
+        int index) {
+      return calls_.get(index);
+    }
+    
+    // optional bool parallel = 3 [default = false];
+    public static final int PARALLEL_FIELD_NUMBER = 3;
+    private boolean parallel_;
+    public boolean hasParallel() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public boolean getParallel() {
+      return parallel_;
+    }
+    
+    private void initFields() {
+      requestid_ = 0L;
+      calls_ = java.util.Collections.emptyList();
+      parallel_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+      
+      if (!hasRequestid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+    
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestid_);
+      }
+      for (int i = 0; i < calls_.size(); i++) {
+        output.writeMessage(2, calls_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(3, parallel_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+    
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+    
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestid_);
+      }
+      for (int i = 0; i < calls_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, calls_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, parallel_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+    
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+    
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(rpc.protobuf.RPCProtocol.RPCBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+    
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements rpc.protobuf.RPCProtocol.RPCBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatch_descriptor;
+      }
+      
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatch_fieldAccessorTable;
+      }
+      
+      // Construct using rpc.protobuf.RPCProtocol.RPCBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+      
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCallsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+      
+      public Builder clear() {
+        super.clear();
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (callsBuilder_ == null) {
+          calls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          callsBuilder_.clear();
+        }
+        parallel_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+      
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return rpc.protobuf.RPCProtocol.RPCBatch.getDescriptor();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCBatch getDefaultInstanceForType() {
+        return rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCBatch build() {
+        rpc.protobuf.RPCProtocol.RPCBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+      
+      private rpc.protobuf.RPCProtocol.RPCBatch buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        rpc.protobuf.RPCProtocol.RPCBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCBatch buildPartial() {
+        rpc.protobuf.RPCProtocol.RPCBatch result = new rpc.protobuf.RPCProtocol.RPCBatch(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestid_ = requestid_;
+        if (callsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            calls_ = java.util.Collections.unmodifiableList(calls_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.calls_ = calls_;
+        } else {
+          result.calls_ = callsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.parallel_ = parallel_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+      
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof rpc.protobuf.RPCProtocol.RPCBatch) {
+          return mergeFrom((rpc.protobuf.RPCProtocol.RPCBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+      
+      public Builder mergeFrom(rpc.protobuf.RPCProtocol.RPCBatch other) {
+        if (other == rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance()) return this;
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (callsBuilder_ == null) {
+          if (!other.calls_.isEmpty()) {
+            if (calls_.isEmpty()) {
+              calls_ = other.calls_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureCallsIsMutable();
+              calls_.addAll(other.calls_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.calls_.isEmpty()) {
+            if (callsBuilder_.isEmpty()) {
+              callsBuilder_.dispose();
+              callsBuilder_ = null;
+              calls_ = other.calls_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              callsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getCallsFieldBuilder() : null;
+            } else {
+              callsBuilder_.addAllMessages(other.calls_);
+            }
+          }
+        }
+        if (other.hasParallel()) {
+          setParallel(other.getParallel());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+      
+      public final boolean isInitialized() {
+        if (!hasRequestid()) {
+          
+          return false;
+        }
+        return true;
+      }
+      
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              rpc.protobuf.RPCProtocol.RPCCall.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCCall.newBuilder();
+              input.readMessage(subBuilder, extensionRegistry);
+              addCalls(subBuilder.buildPartial());
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              parallel_ = input.readBool();
+              break;
+            }
+          }
+        }
+      }
+      
+      private int bitField0_;
+      
+      // required uint64 requestid = 1;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000001;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // repeated .rpc.protobuf.RPCCall calls = 2;
+      private java.util.List<rpc.protobuf.RPCProtocol.RPCCall> calls_ =
+        java.util.Collections.emptyList();
+      private void ensureCallsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          calls_ = new java.util.ArrayList<rpc.protobuf.RPCProtocol.RPCCall>(calls_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      
+      private com.google.protobuf.RepeatedFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCCall, rpc.protobuf.RPCProtocol.RPCCall.Builder, rpc.protobuf.RPCProtocol.RPCCallOrBuilder> callsBuilder_;
+      
+      public java.util.List<rpc.protobuf.RPCProtocol.RPCCall> getCallsList() {
+        if (callsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(calls_);
+        } else {
+          return callsBuilder_.getMessageList();
+        }
+      }
+      public int getCallsCount() {
+        if (callsBuilder_ == null) {
+          return calls_.size();
+        } else {
+          return callsBuilder_.getCount();
+        }
+      }
+      public rpc.protobuf.RPCProtocol.RPCCall getCalls(int index) {
+        if (callsBuilder_ == null) {
+          return calls_.get(index);
+        } else {
+          return callsBuilder_.getMessage(index);
+        }
+      }
+      public Builder setCalls(
+          int index, rpc.protobuf.RPCProtocol.RPCCall value) {
+        if (callsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCallsIsMutable();
+          calls_.set(index, value);
+          onChanged();
+        } else {
+          callsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      public Builder setCalls(
+          int index, rpc.protobuf.RPCProtocol.RPCCall.Builder builderForValue) {
+        if (callsBuilder_ == null) {
+          ensureCallsIsMutable();
+          calls_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          callsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addCalls(rpc.protobuf.RPCProtocol.RPCCall value) {
+        if (callsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCallsIsMutable();
+          calls_.add(value);
+          onChanged();
+        } else {
+          callsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      public Builder addCalls(
+          int index, rpc.protobuf.RPCProtocol.RPCCall value) {
+        if (callsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCallsIsMutable();
+          calls_.add(index, value);
+          onChanged();
+        } else {
+          callsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      public Builder addCalls(
+          rpc.protobuf.RPCProtocol.RPCCall.Builder builderForValue) {
+        if (callsBuilder_ == null) {
+          ensureCallsIsMutable();
+          calls_.add(builderForValue.build());
+          onChanged();
+        } else {
+          callsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addCalls(
+          int index, rpc.protobuf.RPCProtocol.RPCCall.Builder builderForValue) {
+        if (callsBuilder_ == null) {
+          ensureCallsIsMutable();
+          calls_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          callsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addAllCalls(
+          java.lang.Iterable<? extends rpc.protobuf.RPCProtocol.RPCCall> values) {
+        if (callsBuilder_ == null) {
+          ensureCallsIsMutable();
+          super.addAll(values, calls_);
+          onChanged();
+        } else {
+          callsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      public Builder clearCalls() {
+        if (callsBuilder_ == null) {
+          calls_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          callsBuilder_.clear();
+        }
+        return this;
+      }
+      public Builder removeCalls(int index) {
+        if (callsBuilder_ == null) {
+          ensureCallsIsMutable();
+          calls_.remove(index);
+          onChanged();
+        } else {
+          callsBuilder_.remove(index);
+        }
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCCall.Builder getCallsBuilder(
+          int index) {
+        return getCallsFieldBuilder().getBuilder(index);
+      }
+      public rpc.protobuf.RPCProtocol.RPCCallOrBuilder getCallsOrBuilder(
+          int index) {
+        if (callsBuilder_ == null) {
+          return calls_.get(index);  } else {
+          return callsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends rpc.protobuf.RPCProtocol.RPCCallOrBuilder> 
+           getCallsOrBuilderList() {
+        if (callsBuilder_ != null) {
+          return callsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(calls_);
+        }
+      }
+      public rpc.protobuf.RPCProtocol.RPCCall.Builder addCallsBuilder() {
+        return getCallsFieldBuilder().addBuilder(
+            rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance());
+      }
+      public rpc.protobuf.RPCProtocol.RPCCall.Builder addCallsBuilder(
+          int index) {
+        return getCallsFieldBuilder().addBuilder(
+            index, rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance());
+      }
+      public java.util.List<rpc.protobuf.RPCProtocol.RPCCall.Builder> 
+           getCallsBuilderList() {
+        return getCallsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCCall, rpc.protobuf.RPCProtocol.RPCCall.Builder, rpc.protobuf.RPCProtocol.RPCCallOrBuilder> 
+          getCallsFieldBuilder() {
+        if (callsBuilder_ == null) {
+          callsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCCall, rpc.protobuf.RPCProtocol.RPCCall.Builder, rpc.protobuf.RPCProtocol.RPCCallOrBuilder>(
+                  calls_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          calls_ = null;
+        }
+        return callsBuilder_;
+      }
+      
+      // optional bool parallel = 3 [default = false];
+      private boolean parallel_ ;
+      public boolean hasParallel() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public boolean getParallel() {
+        return parallel_;
+      }
+      public Builder setParallel(boolean value) {
+        bitField0_ |= 0x00000004;
+        parallel_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearParallel() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        parallel_ = false;
+        onChanged();
+        return this;
+      }
+      
+      // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCBatch)
+    }
+    
+    static {
+      defaultInstance = new RPCBatch(true);
+      defaultInstance.initFields();
+    }
+    
+    // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCBatch)
+  }
+  
+  public interface RPCBatchResultOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+    
+    // required uint64 requestid = 1;
+    boolean hasRequestid();
+    long getRequestid();
+    
+    // repeated .rpc.protobuf.RPCResult results = 2;
+    java.util.List<rpc.protobuf.RPCProtocol.RPCResult> 
+        getResultsList();
+    rpc.protobuf.RPCProtocol.RPCResult getResults(int index);
+    int getResultsCount();
+    java.util.List<? extends rpc.protobuf.RPCProtocol.RPCResultOrBuilder> 
+        getResultsOrBuilderList();
+    rpc.protobuf.RPCProtocol.RPCResultOrBuilder getResultsOrBuilder(
+        int index);
+    
+    // optional uint32 retryafter = 3;
+    boolean hasRetryafter();
+    int getRetryafter();
+    
+    // optional uint32 servicetime = 4;
+    boolean hasServicetime();
+    int getServicetime();
+  }
+  public static final class RPCBatchResult extends
+      com.google.protobuf.GeneratedMessage
+      implements RPCBatchResultOrBuilder {
+    // Use RPCBatchResult.newBuilder() to construct.
+    private RPCBatchResult(Builder builder) {
+      super(builder);
+    }
+    private RPCBatchResult(boolean noInit) {}
+    
+    private static final RPCBatchResult defaultInstance;
+    public static RPCBatchResult getDefaultInstance() {
+      return defaultInstance;
+    }
+    
+    public RPCBatchResult getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+    
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatchResult_descriptor;
+    }
+    
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatchResult_fieldAccessorTable;
+    }
+    
+    private int bitField0_;
+    // required uint64 requestid = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    // repeated .rpc.protobuf.RPCResult results = 2;
+    public static final int RESULTS_FIELD_NUMBER = 2;
+    private java.util.List<rpc.protobuf.RPCProtocol.RPCResult> results_;
+    public java.util.List<rpc.protobuf.RPCProtocol.RPCResult> getResultsList() {
+      return results_;
+    }
+    public java.util.List<? extends rpc.protobuf.RPCProtocol.RPCResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    public int getResultsCount() {
+      return results_.size();
+    }
+    public rpc.protobuf.RPCProtocol.RPCResult getResults(int index) {
+      return results_.get(index);
+    }
+    public rpc.protobuf.RPCProtocol.RPCResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+    
+    // optional uint32 retryafter = 3;
+    public static final int RETRYAFTER_FIELD_NUMBER = 3;
+    private int retryafter_;
+    public boolean hasRetryafter() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public int getRetryafter() {
+      return retryafter_;
+    }
+    
+    // optional uint32 servicetime = 4;
+    public static final int SERVICETIME_FIELD_NUMBER = 4;
+    private int servicetime_;
+    public boolean hasServicetime() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public int getServicetime() {
+      return servicetime_;
+    }
+    
+    private void initFields() {
+      requestid_ = 0L;
+      results_ = java.util.Collections.emptyList();
+      retryafter_ = 0;
+      servicetime_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+      
+      if (!hasRequestid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+    
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestid_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(2, results_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(3, retryafter_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(4, servicetime_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+    
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+    
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestid_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, results_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, retryafter_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, servicetime_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+    
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+    
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(rpc.protobuf.RPCProtocol.RPCBatchResult prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+    
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatchResult_descriptor;
+      }
+      
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCBatchResult_fieldAccessorTable;
+      }
+      
+      // Construct using rpc.protobuf.RPCProtocol.RPCBatchResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+      
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+      
+      public Builder clear() {
+        super.clear();
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          resultsBuilder_.clear();
+        }
+        retryafter_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        servicetime_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+      
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return rpc.protobuf.RPCProtocol.RPCBatchResult.getDescriptor();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCBatchResult getDefaultInstanceForType() {
+        return rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCBatchResult build() {
+        rpc.protobuf.RPCProtocol.RPCBatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+      
+      private rpc.protobuf.RPCProtocol.RPCBatchResult buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        rpc.protobuf.RPCProtocol.RPCBatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCBatchResult buildPartial() {
+        rpc.protobuf.RPCProtocol.RPCBatchResult result = new rpc.protobuf.RPCProtocol.RPCBatchResult(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestid_ = requestid_;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.retryafter_ = retryafter_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.servicetime_ = servicetime_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+      
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof rpc.protobuf.RPCProtocol.RPCBatchResult) {
+          return mergeFrom((rpc.protobuf.RPCProtocol.RPCBatchResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+      
+      public Builder mergeFrom(rpc.protobuf.RPCProtocol.RPCBatchResult other) {
+        if (other == rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance()) return this;
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        if (other.hasRetryafter()) {
+          setRetryafter(other.getRetryafter());
+        }
+        if (other.hasServicetime()) {
+          setServicetime(other.getServicetime());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+      
+      public final boolean isInitialized() {
+        if (!hasRequestid()) {
+          
+          return false;
+        }
+        return true;
+      }
+      
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestid_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              rpc.protobuf.RPCProtocol.RPCResult.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCResult.newBuilder();
+              input.readMessage(subBuilder, extensionRegistry);
+              addResults(subBuilder.buildPartial());
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              retryafter_ = input.readUInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              servicetime_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      }
+      
+      private int bitField0_;
+      
+      // required uint64 requestid = 1;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000001;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // repeated .rpc.protobuf.RPCResult results = 2;
+      private java.util.List<rpc.protobuf.RPCProtocol.RPCResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          results_ = new java.util.ArrayList<rpc.protobuf.RPCProtocol.RPCResult>(results_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      
+      private com.google.protobuf.RepeatedFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCResult, rpc.protobuf.RPCProtocol.RPCResult.Builder, rpc.protobuf.RPCProtocol.RPCResultOrBuilder> resultsBuilder_;
+      
+      public java.util.List<rpc.protobuf.RPCProtocol.RPCResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      public rpc.protobuf.RPCProtocol.RPCResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      public Builder setResults(
+          int index, rpc.protobuf.RPCProtocol.RPCResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      public Builder setResults(
+          int index, rpc.protobuf.RPCProtocol.RPCResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addResults(rpc.protobuf.RPCProtocol.RPCResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      public Builder addResults(
+          int index, rpc.protobuf.RPCProtocol.RPCResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      public Builder addResults(
+          rpc.protobuf.RPCProtocol.RPCResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addResults(
+          int index, rpc.protobuf.RPCProtocol.RPCResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      public Builder addAllResults(
+          java.lang.Iterable<? extends rpc.protobuf.RPCProtocol.RPCResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          super.addAll(values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      public rpc.protobuf.RPCProtocol.RPCResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      public java.util.List<? extends rpc.protobuf.RPCProtocol.RPCResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      public rpc.protobuf.RPCProtocol.RPCResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance());
+      }
+      public rpc.protobuf.RPCProtocol.RPCResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance());
+      }
+      public java.util.List<rpc.protobuf.RPCProtocol.RPCResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCResult, rpc.protobuf.RPCProtocol.RPCResult.Builder, rpc.protobuf.RPCProtocol.RPCResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCResult, rpc.protobuf.RPCProtocol.RPCResult.Builder, rpc.protobuf.RPCProtocol.RPCResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+      
+      // optional uint32 retryafter = 3;
+      private int retryafter_ ;
+      public boolean hasRetryafter() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public int getRetryafter() {
+        return retryafter_;
+      }
+      public Builder setRetryafter(int value) {
+        bitField0_ |= 0x00000004;
+        retryafter_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRetryafter() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        retryafter_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // optional uint32 servicetime = 4;
+      private int servicetime_ ;
+      public boolean hasServicetime() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public int getServicetime() {
+        return servicetime_;
+      }
+      public Builder setServicetime(int value) {
+        bitField0_ |= 0x00000008;
+        servicetime_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearServicetime() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        servicetime_ = 0;
+        onChanged();
+        return this;
+      }
+      
+      // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCBatchResult)
+    }
+    
+    static {
+      defaultInstance = new RPCBatchResult(true);
+      defaultInstance.initFields();
+    }
+    
+    // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCBatchResult)
+  }
+  
+  public interface RPCCancelOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+    
+    // required uint64 requestid = 1;
+    boolean hasRequestid();
+    long getRequestid();
+  }
+  public static final class RPCCancel extends
+      com.google.protobuf.GeneratedMessage
+      implements RPCCancelOrBuilder {
+    // Use RPCCancel.newBuilder() to construct.
+    private RPCCancel(Builder builder) {
+      super(builder);
+    }
+    private RPCCancel(boolean noInit) {}
+    
+    private static final RPCCancel defaultInstance;
+    public static RPCCancel getDefaultInstance() {
+      return defaultInstance;
+    }
+    
+    public RPCCancel getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+    
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCCancel_descriptor;
+    }
+    
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCCancel_fieldAccessorTable;
+    }
+    
+    private int bitField0_;
+    // required uint64 requestid = 1;
+    public static final int REQUESTID_FIELD_NUMBER = 1;
+    private long requestid_;
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public long getRequestid() {
+      return requestid_;
+    }
+    
+    private void initFields() {
+      requestid_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+      
+      if (!hasRequestid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+    
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, requestid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+    
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+    
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+    
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+    
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCCancel parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(rpc.protobuf.RPCProtocol.RPCCancel prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+    
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements rpc.protobuf.RPCProtocol.RPCCancelOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCCancel_descriptor;
+      }
+      
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCCancel_fieldAccessorTable;
+      }
+      
+      // Construct using rpc.protobuf.RPCProtocol.RPCCancel.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+      
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+      
+      public Builder clear() {
+        super.clear();
+        requestid_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+      
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return rpc.protobuf.RPCProtocol.RPCCancel.getDescriptor();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCCancel getDefaultInstanceForType() {
+        return rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCCancel build() {
+        rpc.protobuf.RPCProtocol.RPCCancel result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+      
+      private rpc.protobuf.RPCProtocol.RPCCancel buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        rpc.protobuf.RPCProtocol.RPCCancel result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCCancel buildPartial() {
+        rpc.protobuf.RPCProtocol.RPCCancel result = new rpc.protobuf.RPCProtocol.RPCCancel(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.requestid_ = requestid_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+      
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof rpc.protobuf.RPCProtocol.RPCCancel) {
+          return mergeFrom((rpc.protobuf.RPCProtocol.RPCCancel)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+      
+      public Builder mergeFrom(rpc.protobuf.RPCProtocol.RPCCancel other) {
+        if (other == rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance()) return this;
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+      
+      public final boolean isInitialized() {
+        if (!hasRequestid()) {
+          
+          return false;
+        }
+        return true;
+      }
+      
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              requestid_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      }
+      
+      private int bitField0_;
+      
+      // required uint64 requestid = 1;
+      private long requestid_ ;
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public long getRequestid() {
+        return requestid_;
+      }
+      public Builder setRequestid(long value) {
+        bitField0_ |= 0x00000001;
+        requestid_ = value;
+        onChanged();
+        return this;
+      }
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+      
+      // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCCancel)
+    }
+    
+    static {
+      defaultInstance = new RPCCancel(true);
+      defaultInstance.initFields();
+    }
+    
+    // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCCancel)
+  }
+  
+  public interface RPCPacketOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+    
+    // optional .rpc.protobuf.RPCCall call = 1;
+    boolean hasCall();
+    rpc.protobuf.RPCProtocol.RPCCall getCall();
+    rpc.protobuf.RPCProtocol.RPCCallOrBuilder getCallOrBuilder();
+    
+    // optional .rpc.protobuf.RPCResult result = 2;
+    boolean hasResult();
+    rpc.protobuf.RPCProtocol.RPCResult getResult();
+    rpc.protobuf.RPCProtocol.RPCResultOrBuilder getResultOrBuilder();
+    
+    // optional .rpc.protobuf.RPCFragment fragment = 3;
+    boolean hasFragment();
+    rpc.protobuf.RPCProtocol.RPCFragment getFragment();
+    rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder getFragmentOrBuilder();
+    
+    // optional .rpc.protobuf.RPCResend resend = 4;
+    boolean hasResend();
+    rpc.protobuf.RPCProtocol.RPCResend getResend();
+    rpc.protobuf.RPCProtocol.RPCResendOrBuilder getResendOrBuilder();
+    
+    // optional .rpc.protobuf.RPCBatch batch = 5;
+    boolean hasBatch();
+    rpc.protobuf.RPCProtocol.RPCBatch getBatch();
+    rpc.protobuf.RPCProtocol.RPCBatchOrBuilder getBatchOrBuilder();
+    
+    // optional .rpc.protobuf.RPCBatchResult batchresult = 6;
+    boolean hasBatchresult();
+    rpc.protobuf.RPCProtocol.RPCBatchResult getBatchresult();
+    rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder getBatchresultOrBuilder();
+    
+    // optional .rpc.protobuf.RPCCancel cancel = 7;
+    boolean hasCancel();
+    rpc.protobuf.RPCProtocol.RPCCancel getCancel();
+    rpc.protobuf.RPCProtocol.RPCCancelOrBuilder getCancelOrBuilder();
+  }
+  public static final class RPCPacket extends
+      com.google.protobuf.GeneratedMessage
+      implements RPCPacketOrBuilder {
+    // Use RPCPacket.newBuilder() to construct.
+    private RPCPacket(Builder builder) {
+      super(builder);
+    }
+    private RPCPacket(boolean noInit) {}
+    
+    private static final RPCPacket defaultInstance;
+    public static RPCPacket getDefaultInstance() {
+      return defaultInstance;
+    }
+    
+    public RPCPacket getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+    
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCPacket_descriptor;
+    }
+    
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCPacket_fieldAccessorTable;
+    }
+    
+    private int bitField0_;
+    // optional .rpc.protobuf.RPCCall call = 1;
+    public static final int CALL_FIELD_NUMBER = 1;
+    private rpc.protobuf.RPCProtocol.RPCCall call_;
+    public boolean hasCall() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    public rpc.protobuf.RPCProtocol.RPCCall getCall() {
+      return call_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCCallOrBuilder getCallOrBuilder() {
+      return call_;
+    }
+    
+    // optional .rpc.protobuf.RPCResult result = 2;
+    public static final int RESULT_FIELD_NUMBER = 2;
+    private rpc.protobuf.RPCProtocol.RPCResult result_;
+    public boolean hasResult() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    public rpc.protobuf.RPCProtocol.RPCResult getResult() {
+      return result_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCResultOrBuilder getResultOrBuilder() {
+      return result_;
+    }
+    
+    // optional .rpc.protobuf.RPCFragment fragment = 3;
+    public static final int FRAGMENT_FIELD_NUMBER = 3;
+    private rpc.protobuf.RPCProtocol.RPCFragment fragment_;
+    public boolean hasFragment() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    public rpc.protobuf.RPCProtocol.RPCFragment getFragment() {
+      return fragment_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder getFragmentOrBuilder() {
+      return fragment_;
+    }
+    
+    // optional .rpc.protobuf.RPCResend resend = 4;
+    public static final int RESEND_FIELD_NUMBER = 4;
+    private rpc.protobuf.RPCProtocol.RPCResend resend_;
+    public boolean hasResend() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    public rpc.protobuf.RPCProtocol.RPCResend getResend() {
+      return resend_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCResendOrBuilder getResendOrBuilder() {
+      return resend_;
+    }
+    
+    // optional .rpc.protobuf.RPCBatch batch = 5;
+    public static final int BATCH_FIELD_NUMBER = 5;
+    private rpc.protobuf.RPCProtocol.RPCBatch batch_;
+    public boolean hasBatch() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    public rpc.protobuf.RPCProtocol.RPCBatch getBatch() {
+      return batch_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCBatchOrBuilder getBatchOrBuilder() {
+      return batch_;
+    }
+    
+    // optional .rpc.protobuf.RPCBatchResult batchresult = 6;
+    public static final int BATCHRESULT_FIELD_NUMBER = 6;
+    private rpc.protobuf.RPCProtocol.RPCBatchResult batchresult_;
+    public boolean hasBatchresult() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    public rpc.protobuf.RPCProtocol.RPCBatchResult getBatchresult() {
+      return batchresult_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder getBatchresultOrBuilder() {
+      return batchresult_;
+    }
+    
+    // optional .rpc.protobuf.RPCCancel cancel = 7;
+    public static final int CANCEL_FIELD_NUMBER = 7;
+    private rpc.protobuf.RPCProtocol.RPCCancel cancel_;
+    public boolean hasCancel() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    public rpc.protobuf.RPCProtocol.RPCCancel getCancel() {
+      return cancel_;
+    }
+    public rpc.protobuf.RPCProtocol.RPCCancelOrBuilder getCancelOrBuilder() {
+      return cancel_;
+    }
+    
+    private void initFields() {
+      call_ = rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance();
+      result_ = rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance();
+      fragment_ = rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance();
+      resend_ = rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance();
+      batch_ = rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance();
+      batchresult_ = rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance();
+      cancel_ = rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+      
+      if (hasFragment()) {
+        if (!getFragment().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasResend()) {
+        if (!getResend().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasBatch()) {
+        if (!getBatch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasBatchresult()) {
+        if (!getBatchresult().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasCancel()) {
+        if (!getCancel().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+    
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, call_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, result_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, fragment_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, resend_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, batch_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(6, batchresult_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(7, cancel_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+    
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+    
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, call_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, result_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, fragment_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, resend_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, batch_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, batchresult_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, cancel_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+    
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+    
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return newBuilder().mergeFrom(data, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      Builder builder = newBuilder();
+      if (builder.mergeDelimitedFrom(input, extensionRegistry)) {
+        return builder.buildParsed();
+      } else {
+        return null;
+      }
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input).buildParsed();
+    }
+    public static rpc.protobuf.RPCProtocol.RPCPacket parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return newBuilder().mergeFrom(input, extensionRegistry)
+               .buildParsed();
+    }
+    
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(rpc.protobuf.RPCProtocol.RPCPacket prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+    
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements rpc.protobuf.RPCProtocol.RPCPacketOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCPacket_descriptor;
+      }
+      
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return rpc.protobuf.RPCProtocol.internal_static_rpc_protobuf_RPCPacket_fieldAccessorTable;
+      }
+      
+      // Construct using rpc.protobuf.RPCProtocol.RPCPacket.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+      
+      private Builder(BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCallFieldBuilder();
+          getResultFieldBuilder();
+          getFragmentFieldBuilder();
+          getResendFieldBuilder();
+          getBatchFieldBuilder();
+          getBatchresultFieldBuilder();
+          getCancelFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+      
+      public Builder clear() {
+        super.clear();
+        if (callBuilder_ == null) {
+          call_ = rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance();
+        } else {
+          callBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (resultBuilder_ == null) {
+          result_ = rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance();
+        } else {
+          resultBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (fragmentBuilder_ == null) {
+          fragment_ = rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance();
+        } else {
+          fragmentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (resendBuilder_ == null) {
+          resend_ = rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance();
+        } else {
+          resendBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (batchBuilder_ == null) {
+          batch_ = rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance();
+        } else {
+          batchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (batchresultBuilder_ == null) {
+          batchresult_ = rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance();
+        } else {
+          batchresultBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (cancelBuilder_ == null) {
+          cancel_ = rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance();
+        } else {
+          cancelBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+      
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return rpc.protobuf.RPCProtocol.RPCPacket.getDescriptor();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCPacket getDefaultInstanceForType() {
+        return rpc.protobuf.RPCProtocol.RPCPacket.getDefaultInstance();
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCPacket build() {
+        rpc.protobuf.RPCProtocol.RPCPacket result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+      
+      private rpc.protobuf.RPCProtocol.RPCPacket buildParsed()
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        rpc.protobuf.RPCProtocol.RPCPacket result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(
+            result).asInvalidProtocolBufferException();
+        }
+        return result;
+      }
+      
+      public rpc.protobuf.RPCProtocol.RPCPacket buildPartial() {
+        rpc.protobuf.RPCProtocol.RPCPacket result = new rpc.protobuf.RPCProtocol.RPCPacket(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (callBuilder_ == null) {
+          result.call_ = call_;
+        } else {
+          result.call_ = callBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (resultBuilder_ == null) {
+          result.result_ = result_;
+        } else {
+          result.result_ = resultBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (fragmentBuilder_ == null) {
+          result.fragment_ = fragment_;
+        } else {
+          result.fragment_ = fragmentBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (resendBuilder_ == null) {
+          result.resend_ = resend_;
+        } else {
+          result.resend_ = resendBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (batchBuilder_ == null) {
+          result.batch_ = batch_;
+        } else {
+          result.batch_ = batchBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (batchresultBuilder_ == null) {
+          result.batchresult_ = batchresult_;
+        } else {
+          result.batchresult_ = batchresultBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        if (cancelBuilder_ == null) {
+          result.cancel_ = cancel_;
+        } else {
+          result.cancel_ = cancelBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+      
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof rpc.protobuf.RPCProtocol.RPCPacket) {
+          return mergeFrom((rpc.protobuf.RPCProtocol.RPCPacket)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+      
+      public Builder mergeFrom(rpc.protobuf.RPCProtocol.RPCPacket other) {
+        if (other == rpc.protobuf.RPCProtocol.RPCPacket.getDefaultInstance()) return this;
+        if (other.hasCall()) {
+          mergeCall(other.getCall());
+        }
+        if (other.hasResult()) {
+          mergeResult(other.getResult());
+        }
+        if (other.hasFragment()) {
+          mergeFragment(other.getFragment());
+        }
+        if (other.hasResend()) {
+          mergeResend(other.getResend());
+        }
+        if (other.hasBatch()) {
+          mergeBatch(other.getBatch());
+        }
+        if (other.hasBatchresult()) {
+          mergeBatchresult(other.getBatchresult());
+        }
+        if (other.hasCancel()) {
+          mergeCancel(other.getCancel());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+      
+      public final boolean isInitialized() {
+        if (hasFragment()) {
+          if (!getFragment().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasResend()) {
+          if (!getResend().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasBatch()) {
+          if (!getBatch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasBatchresult()) {
+          if (!getBatchresult().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasCancel()) {
+          if (!getCancel().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+      
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder(
+            this.getUnknownFields());
+        while (true) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              this.setUnknownFields(unknownFields.build());
+              onChanged();
+              return this;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                this.setUnknownFields(unknownFields.build());
+                onChanged();
+                return this;
+              }
+              break;
+            }
+            case 10: {
+              rpc.protobuf.RPCProtocol.RPCCall.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCCall.newBuilder();
+              if (hasCall()) {
+                subBuilder.mergeFrom(getCall());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setCall(subBuilder.buildPartial());
+              break;
+            }
+            case 18: {
+              rpc.protobuf.RPCProtocol.RPCResult.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCResult.newBuilder();
+              if (hasResult()) {
+                subBuilder.mergeFrom(getResult());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setResult(subBuilder.buildPartial());
+              break;
+            }
+            case 26: {
+              rpc.protobuf.RPCProtocol.RPCFragment.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCFragment.newBuilder();
+              if (hasFragment()) {
+                subBuilder.mergeFrom(getFragment());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setFragment(subBuilder.buildPartial());
+              break;
+            }
+            case 34: {
+              rpc.protobuf.RPCProtocol.RPCResend.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCResend.newBuilder();
+              if (hasResend()) {
+                subBuilder.mergeFrom(getResend());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setResend(subBuilder.buildPartial());
+              break;
+            }
+            case 42: {
+              rpc.protobuf.RPCProtocol.RPCBatch.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCBatch.newBuilder();
+              if (hasBatch()) {
+                subBuilder.mergeFrom(getBatch());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setBatch(subBuilder.buildPartial());
+              break;
+            }
+            case 50: {
+              rpc.protobuf.RPCProtocol.RPCBatchResult.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCBatchResult.newBuilder();
+              if (hasBatchresult()) {
+                subBuilder.mergeFrom(getBatchresult());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setBatchresult(subBuilder.buildPartial());
+              break;
+            }
+            case 58: {
+              rpc.protobuf.RPCProtocol.RPCCancel.Builder subBuilder = rpc.protobuf.RPCProtocol.RPCCancel.newBuilder();
+              if (hasCancel()) {
+                subBuilder.mergeFrom(getCancel());
+              }
+              input.readMessage(subBuilder, extensionRegistry);
+              setCancel(subBuilder.buildPartial());
+              break;
+            }
+          }
+        }
+      }
+      
+      private int bitField0_;
+      
+      // optional .rpc.protobuf.RPCCall call = 1;
+      private rpc.protobuf.RPCProtocol.RPCCall call_ = rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCCall, rpc.protobuf.RPCProtocol.RPCCall.Builder, rpc.protobuf.RPCProtocol.RPCCallOrBuilder> callBuilder_;
+      public boolean hasCall() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      public rpc.protobuf.RPCProtocol.RPCCall getCall() {
+        if (callBuilder_ == null) {
+          return call_;
+        } else {
+          return callBuilder_.getMessage();
+        }
+      }
+      public Builder setCall(rpc.protobuf.RPCProtocol.RPCCall value) {
+        if (callBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          call_ = value;
+          onChanged();
+        } else {
+          callBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder setCall(
+          rpc.protobuf.RPCProtocol.RPCCall.Builder builderForValue) {
+        if (callBuilder_ == null) {
+          call_ = builderForValue.build();
+          onChanged();
+        } else {
+          callBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder mergeCall(rpc.protobuf.RPCProtocol.RPCCall value) {
+        if (callBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              call_ != rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance()) {
+            call_ =
+              rpc.protobuf.RPCProtocol.RPCCall.newBuilder(call_).mergeFrom(value).buildPartial();
+          } else {
+            call_ = value;
+          }
+          onChanged();
+        } else {
+          callBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      public Builder clearCall() {
+        if (callBuilder_ == null) {
+          call_ = rpc.protobuf.RPCProtocol.RPCCall.getDefaultInstance();
+          onChanged();
+        } else {
+          callBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCCall.Builder getCallBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getCallFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCCallOrBuilder getCallOrBuilder() {
+        if (callBuilder_ != null) {
+          return callBuilder_.getMessageOrBuilder();
+        } else {
+          return call_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCCall, rpc.protobuf.RPCProtocol.RPCCall.Builder, rpc.protobuf.RPCProtocol.RPCCallOrBuilder> 
+          getCallFieldBuilder() {
+        if (callBuilder_ == null) {
+          callBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCCall, rpc.protobuf.RPCProtocol.RPCCall.Builder, rpc.protobuf.RPCProtocol.RPCCallOrBuilder>(
+                  call_,
+                  getParentForChildren(),
+                  isClean());
+          call_ = null;
+        }
+        return callBuilder_;
+      }
+      
+      // optional .rpc.protobuf.RPCResult result = 2;
+      private rpc.protobuf.RPCProtocol.RPCResult result_ = rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCResult, rpc.protobuf.RPCProtocol.RPCResult.Builder, rpc.protobuf.RPCProtocol.RPCResultOrBuilder> resultBuilder_;
+      public boolean hasResult() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      public rpc.protobuf.RPCProtocol.RPCResult getResult() {
+        if (resultBuilder_ == null) {
+          return result_;
+        } else {
+          return resultBuilder_.getMessage();
+        }
+      }
+      public Builder setResult(rpc.protobuf.RPCProtocol.RPCResult value) {
+        if (resultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          result_ = value;
+          onChanged();
+        } else {
+          resultBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      public Builder setResult(
+          rpc.protobuf.RPCProtocol.RPCResult.Builder builderForValue) {
+        if (resultBuilder_ == null) {
+          result_ = builderForValue.build();
+          onChanged();
+        } else {
+          resultBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      public Builder mergeResult(rpc.protobuf.RPCProtocol.RPCResult value) {
+        if (resultBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              result_ != rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance()) {
+            result_ =
+              rpc.protobuf.RPCProtocol.RPCResult.newBuilder(result_).mergeFrom(value).buildPartial();
+          } else {
+            result_ = value;
+          }
+          onChanged();
+        } else {
+          resultBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      public Builder clearResult() {
+        if (resultBuilder_ == null) {
+          result_ = rpc.protobuf.RPCProtocol.RPCResult.getDefaultInstance();
+          onChanged();
+        } else {
+          resultBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCResult.Builder getResultBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getResultFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCResultOrBuilder getResultOrBuilder() {
+        if (resultBuilder_ != null) {
+          return resultBuilder_.getMessageOrBuilder();
+        } else {
+          return result_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCResult, rpc.protobuf.RPCProtocol.RPCResult.Builder, rpc.protobuf.RPCProtocol.RPCResultOrBuilder> 
+          getResultFieldBuilder() {
+        if (resultBuilder_ == null) {
+          resultBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCResult, rpc.protobuf.RPCProtocol.RPCResult.Builder, rpc.protobuf.RPCProtocol.RPCResultOrBuilder>(
+                  result_,
+                  getParentForChildren(),
+                  isClean());
+          result_ = null;
+        }
+        return resultBuilder_;
+      }
+      
+      // optional .rpc.protobuf.RPCFragment fragment = 3;
+      private rpc.protobuf.RPCProtocol.RPCFragment fragment_ = rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCFragment, rpc.protobuf.RPCProtocol.RPCFragment.Builder, rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder> fragmentBuilder_;
+      public boolean hasFragment() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      public rpc.protobuf.RPCProtocol.RPCFragment getFragment() {
+        if (fragmentBuilder_ == null) {
+          return fragment_;
+        } else {
+          return fragmentBuilder_.getMessage();
+        }
+      }
+      public Builder setFragment(rpc.protobuf.RPCProtocol.RPCFragment value) {
+        if (fragmentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fragment_ = value;
+          onChanged();
+        } else {
+          fragmentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      public Builder setFragment(
+          rpc.protobuf.RPCProtocol.RPCFragment.Builder builderForValue) {
+        if (fragmentBuilder_ == null) {
+          fragment_ = builderForValue.build();
+          onChanged();
+        } else {
+          fragmentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      public Builder mergeFragment(rpc.protobuf.RPCProtocol.RPCFragment value) {
+        if (fragmentBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              fragment_ != rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance()) {
+            fragment_ =
+              rpc.protobuf.RPCProtocol.RPCFragment.newBuilder(fragment_).mergeFrom(value).buildPartial();
+          } else {
+            fragment_ = value;
+          }
+          onChanged();
+        } else {
+          fragmentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      public Builder clearFragment() {
+        if (fragmentBuilder_ == null) {
+          fragment_ = rpc.protobuf.RPCProtocol.RPCFragment.getDefaultInstance();
+          onChanged();
+        } else {
+          fragmentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCFragment.Builder getFragmentBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getFragmentFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder getFragmentOrBuilder() {
+        if (fragmentBuilder_ != null) {
+          return fragmentBuilder_.getMessageOrBuilder();
+        } else {
+          return fragment_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCFragment, rpc.protobuf.RPCProtocol.RPCFragment.Builder, rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder> 
+          getFragmentFieldBuilder() {
+        if (fragmentBuilder_ == null) {
+          fragmentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCFragment, rpc.protobuf.RPCProtocol.RPCFragment.Builder, rpc.protobuf.RPCProtocol.RPCFragmentOrBuilder>(
+                  fragment_,
+                  getParentForChildren(),
+                  isClean());
+          fragment_ = null;
+        }
+        return fragmentBuilder_;
+      }
+      
+      // optional .rpc.protobuf.RPCResend resend = 4;
+      private rpc.protobuf.RPCProtocol.RPCResend resend_ = rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCResend, rpc.protobuf.RPCProtocol.RPCResend.Builder, rpc.protobuf.RPCProtocol.RPCResendOrBuilder> resendBuilder_;
+      public boolean hasResend() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      public rpc.protobuf.RPCProtocol.RPCResend getResend() {
+        if (resendBuilder_ == null) {
+          return resend_;
+        } else {
+          return resendBuilder_.getMessage();
+        }
+      }
+      public Builder setResend(rpc.protobuf.RPCProtocol.RPCResend value) {
+        if (resendBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          resend_ = value;
+          onChanged();
+        } else {
+          resendBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      public Builder setResend(
+          rpc.protobuf.RPCProtocol.RPCResend.Builder builderForValue) {
+        if (resendBuilder_ == null) {
+          resend_ = builderForValue.build();
+          onChanged();
+        } else {
+          resendBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      public Builder mergeResend(rpc.protobuf.RPCProtocol.RPCResend value) {
+        if (resendBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              resend_ != rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance()) {
+            resend_ =
+              rpc.protobuf.RPCProtocol.RPCResend.newBuilder(resend_).mergeFrom(value).buildPartial();
+          } else {
+            resend_ = value;
+          }
+          onChanged();
+        } else {
+          resendBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      public Builder clearResend() {
+        if (resendBuilder_ == null) {
+          resend_ = rpc.protobuf.RPCProtocol.RPCResend.getDefaultInstance();
+          onChanged();
+        } else {
+          resendBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCResend.Builder getResendBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getResendFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCResendOrBuilder getResendOrBuilder() {
+        if (resendBuilder_ != null) {
+          return resendBuilder_.getMessageOrBuilder();
+        } else {
+          return resend_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCResend, rpc.protobuf.RPCProtocol.RPCResend.Builder, rpc.protobuf.RPCProtocol.RPCResendOrBuilder> 
+          getResendFieldBuilder() {
+        if (resendBuilder_ == null) {
+          resendBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCResend, rpc.protobuf.RPCProtocol.RPCResend.Builder, rpc.protobuf.RPCProtocol.RPCResendOrBuilder>(
+                  resend_,
+                  getParentForChildren(),
+                  isClean());
+          resend_ = null;
+        }
+        return resendBuilder_;
+      }
+      
+      // optional .rpc.protobuf.RPCBatch batch = 5;
+      private rpc.protobuf.RPCProtocol.RPCBatch batch_ = rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCBatch, rpc.protobuf.RPCProtocol.RPCBatch.Builder, rpc.protobuf.RPCProtocol.RPCBatchOrBuilder> batchBuilder_;
+      public boolean hasBatch() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      public rpc.protobuf.RPCProtocol.RPCBatch getBatch() {
+        if (batchBuilder_ == null) {
+          return batch_;
+        } else {
+          return batchBuilder_.getMessage();
+        }
+      }
+      public Builder setBatch(rpc.protobuf.RPCProtocol.RPCBatch value) {
+        if (batchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          batch_ = value;
+          onChanged();
+        } else {
+          batchBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      public Builder setBatch(
+          rpc.protobuf.RPCProtocol.RPCBatch.Builder builderForValue) {
+        if (batchBuilder_ == null) {
+          batch_ = builderForValue.build();
+          onChanged();
+        } else {
+          batchBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      public Builder mergeBatch(rpc.protobuf.RPCProtocol.RPCBatch value) {
+        if (batchBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              batch_ != rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance()) {
+            batch_ =
+              rpc.protobuf.RPCProtocol.RPCBatch.newBuilder(batch_).mergeFrom(value).buildPartial();
+          } else {
+            batch_ = value;
+          }
+          onChanged();
+        } else {
+          batchBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      public Builder clearBatch() {
+        if (batchBuilder_ == null) {
+          batch_ = rpc.protobuf.RPCProtocol.RPCBatch.getDefaultInstance();
+          onChanged();
+        } else {
+          batchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCBatch.Builder getBatchBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getBatchFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCBatchOrBuilder getBatchOrBuilder() {
+        if (batchBuilder_ != null) {
+          return batchBuilder_.getMessageOrBuilder();
+        } else {
+          return batch_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCBatch, rpc.protobuf.RPCProtocol.RPCBatch.Builder, rpc.protobuf.RPCProtocol.RPCBatchOrBuilder> 
+          getBatchFieldBuilder() {
+        if (batchBuilder_ == null) {
+          batchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCBatch, rpc.protobuf.RPCProtocol.RPCBatch.Builder, rpc.protobuf.RPCProtocol.RPCBatchOrBuilder>(
+                  batch_,
+                  getParentForChildren(),
+                  isClean());
+          batch_ = null;
+        }
+        return batchBuilder_;
+      }
+      
+      // optional .rpc.protobuf.RPCBatchResult batchresult = 6;
+      private rpc.protobuf.RPCProtocol.RPCBatchResult batchresult_ = rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCBatchResult, rpc.protobuf.RPCProtocol.RPCBatchResult.Builder, rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder> batchresultBuilder_;
+      public boolean hasBatchresult() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      public rpc.protobuf.RPCProtocol.RPCBatchResult getBatchresult() {
+        if (batchresultBuilder_ == null) {
+          return batchresult_;
+        } else {
+          return batchresultBuilder_.getMessage();
+        }
+      }
+      public Builder setBatchresult(rpc.protobuf.RPCProtocol.RPCBatchResult value) {
+        if (batchresultBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          batchresult_ = value;
+          onChanged();
+        } else {
+          batchresultBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      public Builder setBatchresult(
+          rpc.protobuf.RPCProtocol.RPCBatchResult.Builder builderForValue) {
+        if (batchresultBuilder_ == null) {
+          batchresult_ = builderForValue.build();
+          onChanged();
+        } else {
+          batchresultBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      public Builder mergeBatchresult(rpc.protobuf.RPCProtocol.RPCBatchResult value) {
+        if (batchresultBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              batchresult_ != rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance()) {
+            batchresult_ =
+              rpc.protobuf.RPCProtocol.RPCBatchResult.newBuilder(batchresult_).mergeFrom(value).buildPartial();
+          } else {
+            batchresult_ = value;
+          }
+          onChanged();
+        } else {
+          batchresultBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      public Builder clearBatchresult() {
+        if (batchresultBuilder_ == null) {
+          batchresult_ = rpc.protobuf.RPCProtocol.RPCBatchResult.getDefaultInstance();
+          onChanged();
+        } else {
+          batchresultBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCBatchResult.Builder getBatchresultBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getBatchresultFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder getBatchresultOrBuilder() {
+        if (batchresultBuilder_ != null) {
+          return batchresultBuilder_.getMessageOrBuilder();
+        } else {
+          return batchresult_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCBatchResult, rpc.protobuf.RPCProtocol.RPCBatchResult.Builder, rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder> 
+          getBatchresultFieldBuilder() {
+        if (batchresultBuilder_ == null) {
+          batchresultBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCBatchResult, rpc.protobuf.RPCProtocol.RPCBatchResult.Builder, rpc.protobuf.RPCProtocol.RPCBatchResultOrBuilder>(
+                  batchresult_,
+                  getParentForChildren(),
+                  isClean());
+          batchresult_ = null;
+        }
+        return batchresultBuilder_;
+      }
+      
+      // optional .rpc.protobuf.RPCCancel cancel = 7;
+      private rpc.protobuf.RPCProtocol.RPCCancel cancel_ = rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCCancel, rpc.protobuf.RPCProtocol.RPCCancel.Builder, rpc.protobuf.RPCProtocol.RPCCancelOrBuilder> cancelBuilder_;
+      public boolean hasCancel() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      public rpc.protobuf.RPCProtocol.RPCCancel getCancel() {
+        if (cancelBuilder_ == null) {
+          return cancel_;
+        } else {
+          return cancelBuilder_.getMessage();
+        }
+      }
+      public Builder setCancel(rpc.protobuf.RPCProtocol.RPCCancel value) {
+        if (cancelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          cancel_ = value;
+          onChanged();
+        } else {
+          cancelBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      public Builder setCancel(
+          rpc.protobuf.RPCProtocol.RPCCancel.Builder builderForValue) {
+        if (cancelBuilder_ == null) {
+          cancel_ = builderForValue.build();
+          onChanged();
+        } else {
+          cancelBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      public Builder mergeCancel(rpc.protobuf.RPCProtocol.RPCCancel value) {
+        if (cancelBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              cancel_ != rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance()) {
+            cancel_ =
+              rpc.protobuf.RPCProtocol.RPCCancel.newBuilder(cancel_).mergeFrom(value).buildPartial();
+          } else {
+            cancel_ = value;
+          }
+          onChanged();
+        } else {
+          cancelBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      public Builder clearCancel() {
+        if (cancelBuilder_ == null) {
+          cancel_ = rpc.protobuf.RPCProtocol.RPCCancel.getDefaultInstance();
+          onChanged();
+        } else {
+          cancelBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      public rpc.protobuf.RPCProtocol.RPCCancel.Builder getCancelBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getCancelFieldBuilder().getBuilder();
+      }
+      public rpc.protobuf.RPCProtocol.RPCCancelOrBuilder getCancelOrBuilder() {
+        if (cancelBuilder_ != null) {
+          return cancelBuilder_.getMessageOrBuilder();
+        } else {
+          return cancel_;
+        }
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          rpc.protobuf.RPCProtocol.RPCCancel, rpc.protobuf.RPCProtocol.RPCCancel.Builder, rpc.protobuf.RPCProtocol.RPCCancelOrBuilder> 
+          getCancelFieldBuilder() {
+        if (cancelBuilder_ == null) {
+          cancelBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              rpc.protobuf.RPCProtocol.RPCCancel, rpc.protobuf.RPCProtocol.RPCCancel.Builder, rpc.protobuf.RPCProtocol.RPCCancelOrBuilder>(
+                  cancel_,
+                  getParentForChildren(),
+                  isClean());
+          cancel_ = null;
+        }
+        return cancelBuilder_;
+      }
+      
+      // @@protoc_insertion_point(builder_scope:rpc.protobuf.RPCPacket)
+    }
+    
+    static {
+      defaultInstance = new RPCPacket(true);
+      defaultInstance.initFields();
+    }
+    
+    // @@protoc_insertion_point(class_scope:rpc.protobuf.RPCPacket)
+  }
+  
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCCall_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCCall_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCResult_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCResult_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCFragment_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCFragment_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCResend_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCResend_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCBatch_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCBatchResult_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCBatchResult_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCCancel_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCCancel_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_rpc_protobuf_RPCPacket_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_rpc_protobuf_RPCPacket_fieldAccessorTable;
+  
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\032src/rpc/protobuf/rpc.proto\022\014rpc.protob" +
+      "uf\"\202\002\n\007RPCCall\022\021\n\tclassname\030\001 \001(\t\022\022\n\nmet" +
+      "hodname\030\002 \001(\t\022\022\n\nparameters\030\003 \003(\014\022\021\n\treq" +
+      "uestid\030\004 \001(\004\0224\n\013compression\030\005 \001(\0162\031.rpc." +
+      "protobuf.Compression:\004NONE\022)\n\006accept\030\006 \003" +
+      "(\0162\031.rpc.protobuf.Compression\022\020\n\010methodi" +
+      "d\030\007 \001(\r\022\r\n\005epoch\030\010 \001(\004\022\026\n\007resolve\030\t \001(\010:" +
+      "\005false\022\017\n\007timeout\030\n \001(\007\"\337\001\n\tRPCResult\022\016\n" +
+      "\006result\030\001 \001(\014\022\021\n\texception\030\002 \001(\014\022\021\n\trequ" +
+      "estid\030\003 \001(\004\0224\n\013compression\030\004 \001(\0162\031.rpc.p",
+      "rotobuf.Compression:\004NONE\022\020\n\010methodid\030\005 " +
+      "\001(\r\022\r\n\005epoch\030\006 \001(\004\022\034\n\runknownmethod\030\007 \001(" +
+      "\010:\005false\022\022\n\nretryafter\030\010 \001(\r\022\023\n\013servicet" +
+      "ime\030\t \001(\r\"L\n\013RPCFragment\022\021\n\trequestid\030\001 " +
+      "\002(\004\022\r\n\005index\030\002 \002(\r\022\r\n\005count\030\003 \002(\r\022\014\n\004dat" +
+      "a\030\004 \002(\014\"3\n\tRPCResend\022\021\n\trequestid\030\001 \002(\004\022" +
+      "\023\n\007missing\030\002 \003(\rB\002\020\001\"\\\n\010RPCBatch\022\021\n\trequ" +
+      "estid\030\001 \002(\004\022$\n\005calls\030\002 \003(\0132\025.rpc.protobu" +
+      "f.RPCCall\022\027\n\010parallel\030\003 \001(\010:\005false\"v\n\016RP" +
+      "CBatchResult\022\021\n\trequestid\030\001 \002(\004\022(\n\007resul",
+      "ts\030\002 \003(\0132\027.rpc.protobuf.RPCResult\022\022\n\nret" +
+      "ryafter\030\003 \001(\r\022\023\n\013servicetime\030\004 \001(\r\"\036\n\tRP" +
+      "CCancel\022\021\n\trequestid\030\001 \002(\004\"\262\002\n\tRPCPacket" +
+      "\022#\n\004call\030\001 \001(\0132\025.rpc.protobuf.RPCCall\022\'\n" +
+      "\006result\030\002 \001(\0132\027.rpc.protobuf.RPCResult\022+" +
+      "\n\010fragment\030\003 \001(\0132\031.rpc.protobuf.RPCFragm" +
+      "ent\022\'\n\006resend\030\004 \001(\0132\027.rpc.protobuf.RPCRe" +
+      "send\022%\n\005batch\030\005 \001(\0132\026.rpc.protobuf.RPCBa" +
+      "tch\0221\n\013batchresult\030\006 \001(\0132\034.rpc.protobuf." +
+      "RPCBatchResult\022\'\n\006cancel\030\007 \001(\0132\027.rpc.pro",
+      "tobuf.RPCCancel*.\n\013Compression\022\010\n\004NONE\020\000" +
+      "\022\013\n\007DEFLATE\020\001\022\010\n\004GZIP\020\002B\033\n\014rpc.protobufB" +
+      "\013RPCProtocol"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
+        public com.google.protobuf.ExtensionRegistry assignDescriptors(
+            com.google.protobuf.Descriptors.FileDescriptor root) {
+          descriptor = root;
+          internal_static_rpc_protobuf_RPCCall_descriptor =
+            getDescriptor().getMessageTypes().get(0);
+          internal_static_rpc_protobuf_RPCCall_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCCall_descriptor,
+              new java.lang.String[] { "Classname", "Methodname", "Parameters", "Requestid", "Compression", "Accept", "Methodid", "Epoch", "Resolve", "Timeout", },
+              rpc.protobuf.RPCProtocol.RPCCall.class,
+              rpc.protobuf.RPCProtocol.RPCCall.Builder.class);
+          internal_static_rpc_protobuf_RPCResult_descriptor =
+            getDescriptor().getMessageTypes().get(1);
+          internal_static_rpc_protobuf_RPCResult_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCResult_descriptor,
+              new java.lang.String[] { "Result", "Exception", "Requestid", "Compression", "Methodid", "Epoch", "Unknownmethod", "Retryafter", "Servicetime", },
+              rpc.protobuf.RPCProtocol.RPCResult.class,
+              rpc.protobuf.RPCProtocol.RPCResult.Builder.class);
+          internal_static_rpc_protobuf_RPCFragment_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_rpc_protobuf_RPCFragment_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCFragment_descriptor,
+              new java.lang.String[] { "Requestid", "Index", "Count", "Data", },
+              rpc.protobuf.RPCProtocol.RPCFragment.class,
+              rpc.protobuf.RPCProtocol.RPCFragment.Builder.class);
+          internal_static_rpc_protobuf_RPCResend_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_rpc_protobuf_RPCResend_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCResend_descriptor,
+              new java.lang.String[] { "Requestid", "Missing", },
+              rpc.protobuf.RPCProtocol.RPCResend.class,
+              rpc.protobuf.RPCProtocol.RPCResend.Builder.class);
+          internal_static_rpc_protobuf_RPCBatch_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_rpc_protobuf_RPCBatch_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCBatch_descriptor,
+              new java.lang.String[] { "Requestid", "Calls", "Parallel", },
+              rpc.protobuf.RPCProtocol.RPCBatch.class,
+              rpc.protobuf.RPCProtocol.RPCBatch.Builder.class);
+          internal_static_rpc_protobuf_RPCBatchResult_descriptor =
+            getDescriptor().getMessageTypes().get(5);
+          internal_static_rpc_protobuf_RPCBatchResult_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCBatchResult_descriptor,
+              new java.lang.String[] { "Requestid", "Results", "Retryafter", "Servicetime", },
+              rpc.protobuf.RPCProtocol.RPCBatchResult.class,
+              rpc.protobuf.RPCProtocol.RPCBatchResult.Builder.class);
+          internal_static_rpc_protobuf_RPCCancel_descriptor =
+            getDescriptor().getMessageTypes().get(6);
+          internal_static_rpc_protobuf_RPCCancel_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCCancel_descriptor,
+              new java.lang.String[] { "Requestid", },
+              rpc.protobuf.RPCProtocol.RPCCancel.class,
+              rpc.protobuf.RPCProtocol.RPCCancel.Builder.class);
+          internal_static_rpc_protobuf_RPCPacket_descriptor =
+            getDescriptor().getMessageTypes().get(7);
+          internal_static_rpc_protobuf_RPCPacket_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_rpc_protobuf_RPCPacket_descriptor,
+              new java.lang.String[] { "Call", "Result", "Fragment", "Resend", "Batch", "Batchresult", "Cancel", },
+              rpc.protobuf.RPCProtocol.RPCPacket.class,
+              rpc.protobuf.RPCProtocol.RPCPacket.Builder.class);
           return null;
         }
       };
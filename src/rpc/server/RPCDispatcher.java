@@ -0,0 +1,42 @@
+package rpc.server;
+
+/**
+ * Ruft die oeffentlichen statischen Methoden einer Klasse direkt auf, ohne
+ * Reflection. Implementierungen werden vom {@link RPCDispatcherProcessor} fuer
+ * jede mit {@link RPCService} gekennzeichnete Klasse erzeugt; sie heissen wie
+ * die Klasse mit der Endung {@link #SUFFIX} und liegen im selben Paket.
+ * 
+ * <p>
+ * Der {@link RPCLocalServiceProvider} sucht die Methode weiterhin einmalig per
+ * Reflection und bestimmt dann mit {@link #indexOf(String, Class[])} ihren
+ * Index. Jeder weitere Aufruf ist ein <tt>switch</tt> ueber diesen Index mit
+ * einem direkten Aufruf der Methode.
+ * </p>
+ */
+public interface RPCDispatcher {
+	/** Endung des Klassennamens erzeugter Dispatcher. */
+	String SUFFIX = "_RPCDispatcher";
+
+	/**
+	 * @param methodName
+	 *            Name der Methode
+	 * @param paramTypes
+	 *            die deklarierten Parametertypen der Methode
+	 * @return der Index der Methode oder -1, falls dieser Dispatcher sie nicht
+	 *         aufrufen kann
+	 */
+	int indexOf(String methodName, Class<?>[] paramTypes);
+
+	/**
+	 * Ruft die Methode mit dem gegebenen Index auf.
+	 * 
+	 * @param index
+	 *            der Index (siehe {@link #indexOf(String, Class[])})
+	 * @param params
+	 *            die Parameter, passend zu den Parametertypen der Methode
+	 * @return der Rueckgabewert, <tt>null</tt> bei <tt>void</tt>-Methoden
+	 * @throws Throwable
+	 *             was immer die Methode wirft
+	 */
+	Object invoke(int index, Object[] params) throws Throwable;
+}
@@ -0,0 +1,252 @@
+package rpc.server;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation-Prozessor, der fuer jede mit {@link RPCService} gekennzeichnete
+ * Klasse einen {@link RPCDispatcher} erzeugt. Der Dispatcher enthaelt fuer
+ * jede oeffentliche statische Methode der Klasse einen Fall eines
+ * <tt>switch</tt>, der die Parameter auf ihre deklarierten Typen castet (bzw.
+ * auspackt) und die Methode direkt aufruft.
+ *
+ * <p>
+ * Der Prozessor wird beim Uebersetzen ueber <tt>-processor</tt> oder die Datei
+ * <tt>META-INF/services/javax.annotation.processing.Processor</tt> im
+ * Prozessorpfad eingebunden. Ohne ihn werden die Methoden wie bisher per
+ * Reflection aufgerufen.
+ * </p>
+ *
+ * <p>
+ * Der Dispatcher ersetzt nur den Aufruf: die Parameter werden weiterhin vom
+ * Codec des Servers dekodiert und kommen als <tt>Object[]</tt> an.
+ * </p>
+ */
+public class RPCDispatcherProcessor extends AbstractProcessor {
+
+	/**
+	 * Beansprucht neben {@link RPCService} auch {@link RPCPure}, das erst zur
+	 * Laufzeit ausgewertet wird, damit javac fuer gekennzeichnete Klassen nicht
+	 * meldet, kein Prozessor habe die Annotationen beansprucht. Die
+	 * Annotationstypen werden nicht per Annotation angegeben, weil javac
+	 * sonst beim Uebersetzen dieser Klasse mit sich selbst im Prozessorpfad
+	 * eben diese Warnung fuer <tt>@SupportedAnnotationTypes</tt> ausgibt.
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return new HashSet<String>(Arrays.asList(RPCService.class.getName(),
+				RPCPure.class.getName()));
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment roundEnv) {
+		for (Element element : roundEnv
+				.getElementsAnnotatedWith(RPCService.class)) {
+			if (element.getKind() != ElementKind.CLASS
+					|| !element.getModifiers().contains(Modifier.PUBLIC)) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR,
+						"@RPCService requires a public class", element);
+				continue;
+			}
+			try {
+				generate((TypeElement) element);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR,
+						"cannot write dispatcher: " + e.getMessage(), element);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Schreibt den Dispatcher fuer eine Klasse.
+	 */
+	private void generate(TypeElement type) throws IOException {
+		Elements elements = processingEnv.getElementUtils();
+		String packageName = elements.getPackageOf(type).getQualifiedName()
+				.toString();
+		String binaryName = elements.getBinaryName(type).toString();
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName
+				.substring(packageName.length() + 1)) + RPCDispatcher.SUFFIX;
+		String className = type.getQualifiedName().toString();
+
+		List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type
+				.getEnclosedElements())) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.PUBLIC)
+					&& modifiers.contains(Modifier.STATIC)) {
+				methods.add(method);
+			}
+		}
+
+		PrintWriter out = new PrintWriter(processingEnv.getFiler()
+				.createSourceFile(
+						packageName.isEmpty() ? simpleName : packageName + "."
+								+ simpleName, type).openWriter());
+		try {
+			if (!packageName.isEmpty()) {
+				out.println("package " + packageName + ";");
+				out.println();
+			}
+			out.println("/** Generated by " + getClass().getName()
+					+ " for {@link " + className + "}. */");
+			out.println("public final class " + simpleName
+					+ " implements rpc.server.RPCDispatcher {");
+
+			out.println("\tprivate static final String[] NAMES = {");
+			for (ExecutableElement method : methods) {
+				out.println("\t\t\t\"" + method.getSimpleName() + "\",");
+			}
+			out.println("\t};");
+			out.println("\tprivate static final Class<?>[][] PARAM_TYPES = {");
+			for (ExecutableElement method : methods) {
+				out.print("\t\t\t{");
+				for (VariableElement param : method.getParameters()) {
+					out.print(" " + erasure(param.asType()) + ".class,");
+				}
+				out.println(" },");
+			}
+			out.println("\t};");
+			out.println();
+
+			out.println("\t@Override");
+			out.println("\tpublic int indexOf(String methodName, Class<?>[] paramTypes) {");
+			out.println("\t\tfor (int i = 0; i < NAMES.length; i++) {");
+			out.println("\t\t\tif (NAMES[i].equals(methodName)");
+			out.println("\t\t\t\t\t&& java.util.Arrays.equals(PARAM_TYPES[i], paramTypes)) {");
+			out.println("\t\t\t\treturn i;");
+			out.println("\t\t\t}");
+			out.println("\t\t}");
+			out.println("\t\treturn -1;");
+			out.println("\t}");
+			out.println();
+
+			out.println("\t@Override");
+			out.println("\tpublic Object invoke(int index, Object[] params) throws Throwable {");
+			out.println("\t\tswitch (index) {");
+			List<Integer> generic = new ArrayList<Integer>();
+			for (int i = 0; i < methods.size(); i++) {
+				out.println("\t\tcase " + i + ":");
+				if (isGeneric(methods.get(i))) {
+					out.println("\t\t\treturn invoke" + i + "(params);");
+					generic.add(i);
+				} else {
+					printCall(out, "\t\t\t", className, methods.get(i));
+				}
+			}
+			out.println("\t\tdefault:");
+			out.println("\t\t\tthrow new IllegalArgumentException(\"unknown index \" + index);");
+			out.println("\t\t}");
+			out.println("\t}");
+
+			/*
+			 * the casts to generic parameter types cannot be checked; they
+			 * get their own methods so that the warnings stay suppressed
+			 * only where they occur
+			 */
+			for (int i : generic) {
+				out.println();
+				out.println("\t@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+				out.println("\tprivate static Object invoke" + i
+						+ "(Object[] params) throws Throwable {");
+				printCall(out, "\t\t", className, methods.get(i));
+				out.println("\t}");
+			}
+			out.println("}");
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Schreibt den Aufruf einer Methode mit den gecasteten Parametern und die
+	 * Rueckgabe ihres Ergebnisses.
+	 *
+	 * @param indent
+	 *            die Einrueckung der Zeilen
+	 */
+	private void printCall(PrintWriter out, String indent, String className,
+			ExecutableElement method) {
+		StringBuilder call = new StringBuilder();
+		call.append(className).append('.').append(method.getSimpleName())
+				.append('(');
+		List<? extends VariableElement> params = method.getParameters();
+		for (int j = 0; j < params.size(); j++) {
+			if (j > 0) {
+				call.append(", ");
+			}
+			call.append('(').append(castType(params.get(j).asType()))
+					.append(") params[").append(j).append(']');
+		}
+		call.append(')');
+		if (method.getReturnType().getKind() == TypeKind.VOID) {
+			out.println(indent + call + ";");
+			out.println(indent + "return null;");
+		} else {
+			out.println(indent + "return " + call + ";");
+		}
+	}
+
+	/**
+	 * @return ob ein Parameter der Methode einen generischen Typ hat, so dass
+	 *         der Cast auf seine Erasure nicht geprueft werden kann
+	 */
+	private boolean isGeneric(ExecutableElement method) {
+		for (VariableElement param : method.getParameters()) {
+			TypeMirror type = param.asType();
+			if (!type.getKind().isPrimitive()
+					&& !type.toString().equals(erasure(type))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	/**
+	 * @return der Typ, auf den ein Parameter gecastet wird; bei primitiven
+	 *         Typen die boxende Klasse, die beim Aufruf ausgepackt wird
+	 */
+	private String castType(TypeMirror type) {
+		Types types = processingEnv.getTypeUtils();
+		if (type.getKind().isPrimitive()) {
+			return types.boxedClass((PrimitiveType) type).getQualifiedName()
+					.toString();
+		}
+		return erasure(type);
+	}
+}
@@ -1,8 +1,15 @@
 package rpc.server;
 
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import rpc.RPCException;
 import rpc.RPCSecrets;
@@ -21,12 +28,70 @@ import rpc.RPCServiceProvider;
  * <ul>
  * <li>{@link Class#forName(String)}</li>
  * <li>{@link Class#getMethod(String, Class...)}</li>
- * <li>{@link Method#invoke(Object, Object...)}</li>
+ * <li>{@link MethodHandles.Lookup#unreflect(Method)}</li>
  * </ul>
  * </p>
+ * 
+ * <p>
+ * Die Aufloesung von Klasse und Methode geschieht nur beim ersten Aufruf einer
+ * Signatur (Klassenname, Methodenname, Parametertypen). Das Ergebnis - ein
+ * {@link MethodHandle} oder der aufgetretene Fehler - wird in einer
+ * Dispatch-Tabelle abgelegt und bei allen weiteren Aufrufen wiederverwendet.
+ * </p>
+ * 
+ * <p>
+ * Auf Anfrage erhaelt eine aufgeloeste Signatur eine fortlaufende Kennung
+ * (siehe {@link #methodId(String, String, Serializable[])}). Aufrufe ueber die
+ * Kennung greifen per Index auf ein Array der Eintraege zu, ohne Namen zu
+ * vergleichen oder Typen zu bestimmen.
+ * </p>
+ * 
+ * <p>
+ * Fuer Klassen, die mit {@link RPCService} gekennzeichnet sind, kann beim
+ * Uebersetzen ein {@link RPCDispatcher} erzeugt werden. Ist er vorhanden, so
+ * wird die Methode ueber ihn direkt aufgerufen, sonst ueber ein
+ * {@link MethodHandle}.
+ * </p>
+ * 
+ * <p>
+ * Reine Methoden werden mit {@link RPCPure} gekennzeichnet oder mit
+ * {@link #registerPure(String, String)} angemeldet (siehe
+ * {@link #isPure(String, String, Serializable[])}).
+ * </p>
  */
 public class RPCLocalServiceProvider extends RPCServiceProvider {
+	/**
+	 * Maximale Anzahl an Signaturen, fuer die ein Fehler (unbekannte Klasse
+	 * oder Methode) zwischengespeichert wird. Verhindert, dass Aufrufe mit
+	 * beliebigen Namen die Tabelle unbegrenzt wachsen lassen.
+	 */
+	private static final int MAX_NEGATIVE_ENTRIES = 1024;
+
+	/** Maximale Anzahl an vergebenen Methodenkennungen. */
+	private static final int MAX_METHOD_IDS = 65536;
+
+	/** Einheitlicher Typ aller Handles der Dispatch-Tabelle. */
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(
+			Object.class, Object[].class);
+
+	/**
+	 * Die erzeugten Dispatcher der Klassen, <tt>null</tt> fuer Klassen ohne
+	 * Dispatcher.
+	 */
+	private static final ClassValue<RPCDispatcher> DISPATCHERS = new ClassValue<RPCDispatcher>() {
+		@Override
+		protected RPCDispatcher computeValue(Class<?> clazz) {
+			return loadDispatcher(clazz);
+		}
+	};
+
 	private boolean _callPrimitivesIfBoxed;
+	private volatile boolean _debug;
+	private final ConcurrentMap<DispatchKey, Dispatch> _dispatchTable = new ConcurrentHashMap<DispatchKey, Dispatch>();
+	private final AtomicInteger _negativeEntries = new AtomicInteger();
+	private final Set<String> _pureMethods = ConcurrentHashMap.newKeySet();
+	/** Die Eintraege mit Kennung, die Kennung ist der Index. */
+	private volatile Dispatch[] _byId = new Dispatch[0];
 
 	public RPCLocalServiceProvider() {
 		this(true);
@@ -43,6 +108,18 @@ public class RPCLocalServiceProvider extends RPCServiceProvider {
 		_callPrimitivesIfBoxed = callPrimitivesIfBoxed;
 	}
 
+	/**
+	 * Schaltet die Ausgabe jedes Aufrufs samt Parametern auf
+	 * {@link System#out} ein oder aus. Standardmaessig ist sie aus, da sie
+	 * jeden Aufruf deutlich verlangsamt.
+	 * 
+	 * @param debug
+	 *            <tt>true</tt>, um die Aufrufe auszugeben
+	 */
+	public void setDebug(boolean debug) {
+		_debug = debug;
+	}
+
 	/**
 	 * <p>
 	 * Bei der Implemenierung dieser Methode ist darauf zu achten, das
@@ -72,39 +149,301 @@ public class RPCLocalServiceProvider extends RPCServiceProvider {
 	 */
 	public <R> R callexplicit(String className, String methodName,
 			Serializable[] params) throws RPCException {
+		return invoke(lookup(new DispatchKey(className, methodName,
+				paramTypes(params))), params);
+	}
+
+	/**
+	 * Ruft die Methode zu einer Kennung auf, die mit
+	 * {@link #methodId(String, String, Serializable[])} vergeben wurde.
+	 */
+	@Override
+	public <R> R callById(int methodId, Serializable[] params)
+			throws RPCException {
+		Dispatch[] byId = _byId;
+		if (methodId < 0 || methodId >= byId.length) {
+			throw new RPCException("unknown method id " + methodId);
+		}
+		return invoke(byId[methodId], params);
+	}
+
+	/**
+	 * Fuehrt die aufgeloeste Methode mit den gegebenen Parametern aus.
+	 */
+	private <R> R invoke(Dispatch dispatch, Serializable[] params)
+			throws RPCException {
+		if (_debug) {
+			printCall(dispatch.key, params);
+		}
+		if (dispatch.failure != null) {
+			throw new RPCException(dispatch.failure);
+		}
 		try {
-			System.out.print("Debug: " + className + "." + methodName + "()");
-			Class<?> clazz = Class.forName(className);
-			Class<?>[] paramTypes = new Class<?>[params.length];
-			if (paramTypes.length > 0) {
-				System.out.print(" Params: -> ");
-			}
-			for (int i = 0; i < paramTypes.length; i++) {
-				if (_callPrimitivesIfBoxed) {
-					paramTypes[i] = RPCSecrets.warpToPrimitiveClass(params[i]
-							.getClass());
-				} else {
-					paramTypes[i] = params[i].getClass();
-				}
-				System.out.print(paramTypes[i] + " " + params[i] + " ");
+			Object result;
+			if (dispatch.dispatcher != null) {
+				result = dispatch.dispatcher.invoke(dispatch.index, params);
+			} else {
+				result = dispatch.handle.invokeExact((Object[]) params);
 			}
-			System.out.println("");
-			Method method = clazz.getMethod(methodName, paramTypes);
 			@SuppressWarnings("unchecked")
-			R result = (R) method.invoke(null, (Object[]) params);
-			return result;
-		} catch (SecurityException e) {
+			R r = (R) result;
+			return r;
+		} catch (Throwable e) {
+			/* die aufgerufene Methode hat eine Exception geworfen */
 			throw new RPCException(e);
+		}
+	}
+
+	/**
+	 * Gibt einen Aufruf samt Parametern auf {@link System#out} aus.
+	 */
+	private static void printCall(DispatchKey key, Serializable[] params) {
+		StringBuilder line = new StringBuilder("Debug: ")
+				.append(key.className).append('.').append(key.methodName)
+				.append("()");
+		if (params.length > 0) {
+			line.append(" Params: -> ");
+		}
+		for (int i = 0; i < params.length; i++) {
+			line.append(key.paramTypes[i]).append(' ').append(params[i])
+					.append(' ');
+		}
+		System.out.println(line);
+	}
+
+	/**
+	 * Eine Methode ist rein, wenn sie mit {@link RPCPure} gekennzeichnet oder
+	 * mit {@link #registerPure(String, String)} angemeldet ist.
+	 */
+	@Override
+	public boolean isPure(String className, String methodName,
+			Serializable[] params) {
+		return lookup(new DispatchKey(className, methodName,
+				paramTypes(params))).pure;
+	}
+
+	@Override
+	public boolean isPure(int methodId) {
+		Dispatch[] byId = _byId;
+		return methodId >= 0 && methodId < byId.length && byId[methodId].pure;
+	}
+
+	/**
+	 * Vergibt fuer die aufgeloeste Signatur des Aufrufes eine Kennung, falls
+	 * sie noch keine hat. Signaturen, die nicht aufgeloest werden konnten,
+	 * erhalten keine.
+	 */
+	@Override
+	public int methodId(String className, String methodName,
+			Serializable[] params) {
+		Dispatch dispatch = lookup(new DispatchKey(className, methodName,
+				paramTypes(params)));
+		if (dispatch.failure != null) {
+			return -1;
+		}
+		if (dispatch.id >= 0) {
+			return dispatch.id;
+		}
+		synchronized (this) {
+			if (dispatch.id < 0 && _byId.length < MAX_METHOD_IDS) {
+				Dispatch[] byId = Arrays.copyOf(_byId, _byId.length + 1);
+				byId[byId.length - 1] = dispatch;
+				dispatch.id = byId.length - 1;
+				_byId = byId;
+			}
+			return dispatch.id;
+		}
+	}
+
+	/**
+	 * Meldet eine Methode als rein an, z.B. wenn ihre Klasse nicht mit
+	 * {@link RPCPure} versehen werden kann.
+	 * 
+	 * @param className
+	 *            Name der Klasse, in der die statische Methode sich befindet
+	 * @param methodName
+	 *            Name der statischen Methode; gilt fuer alle Ueberladungen
+	 */
+	public void registerPure(String className, String methodName) {
+		_pureMethods.add(className + '#' + methodName);
+		/* bereits aufgeloeste Eintraege; neue prueft lookup() */
+		for (Dispatch dispatch : _dispatchTable.values()) {
+			if (dispatch.key.className.equals(className)
+					&& dispatch.key.methodName.equals(methodName)) {
+				dispatch.pure = true;
+			}
+		}
+	}
+
+	/**
+	 * Bestimmt die Parametertypen fuer die Suche nach der Methode.
+	 */
+	private Class<?>[] paramTypes(Serializable[] params) {
+		Class<?>[] paramTypes = new Class<?>[params.length];
+		for (int i = 0; i < paramTypes.length; i++) {
+			if (_callPrimitivesIfBoxed) {
+				paramTypes[i] = RPCSecrets.warpToPrimitiveClass(params[i]
+						.getClass());
+			} else {
+				paramTypes[i] = params[i].getClass();
+			}
+		}
+		return paramTypes;
+	}
+
+	/**
+	 * Sucht den Eintrag fuer die gegebene Signatur in der Dispatch-Tabelle und
+	 * loest ihn beim ersten Aufruf auf.
+	 */
+	private Dispatch lookup(DispatchKey key) {
+		Dispatch dispatch = _dispatchTable.get(key);
+		if (dispatch != null) {
+			return dispatch;
+		}
+		dispatch = resolve(key);
+		if (dispatch.failure != null
+				&& _negativeEntries.get() >= MAX_NEGATIVE_ENTRIES) {
+			return dispatch;
+		}
+		Dispatch previous = _dispatchTable.putIfAbsent(key, dispatch);
+		if (previous != null) {
+			return previous;
+		}
+		if (dispatch.failure != null) {
+			_negativeEntries.incrementAndGet();
+		} else if (_pureMethods.contains(key.className + '#' + key.methodName)) {
+			/* erst nach dem Eintragen pruefen, siehe registerPure() */
+			dispatch.pure = true;
+		}
+		return dispatch;
+	}
+
+	/**
+	 * Loest Klasse und Methode per Reflection auf und bestimmt den Index der
+	 * Methode im {@link RPCDispatcher} ihrer Klasse. Gibt es keinen, so wird
+	 * ein {@link MethodHandle} erzeugt, das die Parameter als
+	 * <tt>Object[]</tt> erwartet. Schlaegt die Aufloesung fehl, so wird der
+	 * Fehler im Eintrag vermerkt.
+	 */
+	private static Dispatch resolve(DispatchKey key) {
+		try {
+			Class<?> clazz = Class.forName(key.className);
+			Method method = clazz.getMethod(key.methodName, key.paramTypes);
+			boolean pure = method.isAnnotationPresent(RPCPure.class);
+			RPCDispatcher dispatcher = DISPATCHERS.get(method
+					.getDeclaringClass());
+			int index = dispatcher == null ? -1 : dispatcher.indexOf(
+					method.getName(), method.getParameterTypes());
+			if (index >= 0) {
+				return new Dispatch(key, dispatcher, index, pure);
+			}
+			MethodHandle handle = MethodHandles.publicLookup()
+					.unreflect(method)
+					.asSpreader(Object[].class, key.paramTypes.length)
+					.asType(INVOKER_TYPE);
+			return new Dispatch(key, handle, null, pure);
+		} catch (SecurityException e) {
+			return new Dispatch(key, null, e, false);
 		} catch (NoSuchMethodException e) {
-			throw new RPCException(e);
-		} catch (IllegalArgumentException e) {
-			throw new RPCException(e);
+			return new Dispatch(key, null, e, false);
 		} catch (IllegalAccessException e) {
-			throw new RPCException(e);
-		} catch (InvocationTargetException e) {
-			throw new RPCException(e.getCause());
+			return new Dispatch(key, null, e, false);
 		} catch (ClassNotFoundException e) {
-			throw new RPCException(e);
+			return new Dispatch(key, null, e, false);
+		}
+	}
+
+	/**
+	 * Laedt den erzeugten Dispatcher einer Klasse.
+	 * 
+	 * @return der Dispatcher oder <tt>null</tt>, falls keiner erzeugt wurde
+	 */
+	private static RPCDispatcher loadDispatcher(Class<?> clazz) {
+		try {
+			Class<?> dispatcher = Class.forName(clazz.getName()
+					+ RPCDispatcher.SUFFIX, true, clazz.getClassLoader());
+			return (RPCDispatcher) dispatcher.getConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			return null;
+		} catch (ClassCastException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Schluessel der Dispatch-Tabelle: Klassenname, Methodenname und die
+	 * Parametertypen des Aufrufes.
+	 */
+	private static final class DispatchKey {
+		private final String className;
+		private final String methodName;
+		private final Class<?>[] paramTypes;
+		private final int hash;
+
+		DispatchKey(String className, String methodName, Class<?>[] paramTypes) {
+			this.className = className;
+			this.methodName = methodName;
+			this.paramTypes = paramTypes;
+			this.hash = (31 * className.hashCode() + methodName.hashCode())
+					* 31 + Arrays.hashCode(paramTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof DispatchKey))
+				return false;
+			DispatchKey other = (DispatchKey) obj;
+			return hash == other.hash && className.equals(other.className)
+					&& methodName.equals(other.methodName)
+					&& Arrays.equals(paramTypes, other.paramTypes);
+		}
+	}
+
+	/**
+	 * Eintrag der Dispatch-Tabelle. Enthaelt entweder den Dispatcher samt
+	 * Index der Methode, das aufgeloeste Handle oder den Fehler, der bei der
+	 * Aufloesung aufgetreten ist, sowie ob die Methode rein ist.
+	 */
+	private static final class Dispatch {
+		private final DispatchKey key;
+		private final MethodHandle handle;
+		private final RPCDispatcher dispatcher;
+		private final int index;
+		private final Exception failure;
+		/**
+		 * Mit {@link RPCPure} gekennzeichnet oder ueber
+		 * {@link RPCLocalServiceProvider#registerPure(String, String)}
+		 * angemeldet.
+		 */
+		private volatile boolean pure;
+		/** Kennung des Eintrages, -1 solange keine vergeben wurde. */
+		private volatile int id = -1;
+
+		Dispatch(DispatchKey key, MethodHandle handle, Exception failure,
+				boolean pure) {
+			this.key = key;
+			this.handle = handle;
+			this.dispatcher = null;
+			this.index = -1;
+			this.failure = failure;
+			this.pure = pure;
+		}
+
+		Dispatch(DispatchKey key, RPCDispatcher dispatcher, int index,
+				boolean pure) {
+			this.key = key;
+			this.handle = null;
+			this.dispatcher = dispatcher;
+			this.index = index;
+			this.failure = null;
+			this.pure = pure;
 		}
 	}
 }
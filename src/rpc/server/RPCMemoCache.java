@@ -0,0 +1,119 @@
+package rpc.server;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Speichert die bereits kodierten Ergebnisse reiner Methoden (siehe
+ * {@link RPCPure}), so dass ein erneuter Aufruf mit denselben Parametern weder
+ * die Methode ausfuehrt noch das Ergebnis erneut kodiert.
+ * 
+ * <p>
+ * Schluessel sind Klassen- und Methodenname und die kodierten Parameter. Der
+ * Speicher ist durch die Summe der Bytes von Schluesseln und Ergebnissen
+ * begrenzt; wird die Grenze ueberschritten, so werden die am laengsten nicht
+ * genutzten Ergebnisse verworfen.
+ * </p>
+ */
+final class RPCMemoCache {
+	/** Geschaetzter Verwaltungsaufwand pro Eintrag in Bytes. */
+	private static final int ENTRY_OVERHEAD = 64;
+
+	private final long _maxBytes;
+	private long _bytes;
+	private final LinkedHashMap<Key, ByteString> _entries = new LinkedHashMap<Key, ByteString>(
+			16, 0.75f, true);
+
+	/**
+	 * @param maxBytes
+	 *            Obergrenze fuer die Summe der gespeicherten Bytes
+	 */
+	RPCMemoCache(long maxBytes) {
+		_maxBytes = maxBytes;
+	}
+
+	/**
+	 * @return <tt>true</tt>, falls noch kein Ergebnis gespeichert ist; dann
+	 *         kann die Suche entfallen.
+	 */
+	synchronized boolean isEmpty() {
+		return _entries.isEmpty();
+	}
+
+	/**
+	 * @return das kodierte Ergebnis oder <tt>null</tt>, falls keines
+	 *         gespeichert ist
+	 */
+	synchronized ByteString get(Key key) {
+		return _entries.get(key);
+	}
+
+	synchronized void put(Key key, ByteString result) {
+		ByteString previous = _entries.put(key, result);
+		if (previous != null) {
+			_bytes -= key.size + previous.size() + ENTRY_OVERHEAD;
+		}
+		_bytes += key.size + result.size() + ENTRY_OVERHEAD;
+		Iterator<Map.Entry<Key, ByteString>> it = _entries.entrySet()
+				.iterator();
+		while (_bytes > _maxBytes && it.hasNext()) {
+			Map.Entry<Key, ByteString> entry = it.next();
+			_bytes -= entry.getKey().size + entry.getValue().size()
+					+ ENTRY_OVERHEAD;
+			it.remove();
+		}
+	}
+
+	/** Verwirft alle Ergebnisse, z.B. wenn sich der Codec aendert. */
+	synchronized void clear() {
+		_entries.clear();
+		_bytes = 0;
+	}
+
+	/**
+	 * Schluessel eines Ergebnisses: die Methode und die kodierten Parameter
+	 * des Aufrufes.
+	 */
+	static final class Key {
+		private final String method;
+		private final List<ByteString> params;
+		private final int hash;
+		private final long size;
+
+		/**
+		 * @param method
+		 *            Klassen- und Methodenname in der Form
+		 *            <tt>klasse#methode</tt>
+		 * @param params
+		 *            die kodierten Parameter
+		 */
+		Key(String method, List<ByteString> params) {
+			this.method = method;
+			this.params = params;
+			this.hash = method.hashCode() * 31 + params.hashCode();
+			long size = method.length();
+			for (ByteString param : params) {
+				size += param.size();
+			}
+			this.size = size;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return hash == other.hash && method.equals(other.method)
+					&& params.equals(other.params);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package rpc.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Kennzeichnet eine statische Methode als reine Funktion ihrer Parameter: sie
+ * hat keine Seiteneffekte und liefert fuer gleiche Parameter immer dasselbe
+ * Ergebnis. Der {@link RPCServerServiceProvider} merkt sich die Ergebnisse
+ * solcher Methoden und fuehrt sie fuer bereits gesehene Parameter nicht erneut
+ * aus.
+ * 
+ * <p>
+ * Methoden fremder Klassen koennen stattdessen mit
+ * {@link RPCLocalServiceProvider#registerPure(String, String)} angemeldet
+ * werden.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RPCPure {
+}
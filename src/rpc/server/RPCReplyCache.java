@@ -0,0 +1,224 @@
+package rpc.server;
+
+import java.net.SocketAddress;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import rpc.RPCFragmentation;
+import rpc.protobuf.RPCProtocol.RPCResend;
+
+/**
+ * Merkt sich die bereits versendeten Antworten des Servers, damit wiederholte
+ * Aufrufe eines Clients (gleiche Adresse, gleiche Request-Id) nicht erneut
+ * ausgefuehrt werden, sondern die gespeicherte Antwort erhalten. So wird
+ * jeder Aufruf hoechstens einmal ausgefuehrt.
+ *
+ * <p>
+ * Der Speicher ist dreifach begrenzt: durch die Gesamtgroesse der Antworten,
+ * durch deren Alter und durch die Anzahl der Antworten pro Client, so dass
+ * ein einzelner Client die Antworten der anderen nicht verdraengen kann.
+ * </p>
+ */
+final class RPCReplyCache {
+	private final long _maxBytes;
+	private final long _ttlMillis;
+	private final int _clientWindow;
+	private long _bytes;
+	private final LinkedHashMap<Key, Entry> _entries = new LinkedHashMap<Key, Entry>();
+	private final Map<SocketAddress, ArrayDeque<Key>> _clients = new HashMap<SocketAddress, ArrayDeque<Key>>();
+
+	/**
+	 * @param maxBytes
+	 *            Obergrenze fuer die Summe der gespeicherten Antworten in Bytes
+	 * @param ttlMillis
+	 *            Zeit in ms, die eine Antwort hoechstens gespeichert wird
+	 * @param clientWindow
+	 *            Anzahl der Antworten, die pro Client hoechstens gespeichert
+	 *            werden
+	 */
+	RPCReplyCache(long maxBytes, long ttlMillis, int clientWindow) {
+		_maxBytes = maxBytes;
+		_ttlMillis = ttlMillis;
+		_clientWindow = clientWindow;
+	}
+
+	/**
+	 * Wird fuer jeden empfangenen Aufruf aufgerufen.
+	 *
+	 * @return <tt>null</tt>, falls der Aufruf neu ist und ausgefuehrt werden
+	 *         muss; er gilt dann als in Ausfuehrung. Sonst die erneut zu
+	 *         sendenden Datagramme der Antwort, eine leere Liste falls der
+	 *         Aufruf noch ausgefuehrt wird.
+	 */
+	synchronized List<byte[]> begin(SocketAddress client, long requestId) {
+		expire();
+		Key key = new Key(client, requestId);
+		Entry entry = _entries.get(key);
+		if (entry != null) {
+			return entry.datagrams != null ? entry.datagrams : Collections
+					.<byte[]> emptyList();
+		}
+		add(key, new Entry(null, 0));
+		return null;
+	}
+
+	/**
+	 * Wie {@link #begin(SocketAddress, long)}, ohne einen neuen Aufruf als in
+	 * Ausfuehrung zu vermerken.
+	 *
+	 * @return <tt>null</tt>, falls der Aufruf unbekannt ist, sonst wie
+	 *         {@link #begin(SocketAddress, long)}
+	 */
+	synchronized List<byte[]> peek(SocketAddress client, long requestId) {
+		Entry entry = _entries.get(new Key(client, requestId));
+		if (entry == null) {
+			return null;
+		}
+		return entry.datagrams != null ? entry.datagrams : Collections
+				.<byte[]> emptyList();
+	}
+
+	/**
+	 * Speichert die Antwort auf einen mit {@link #begin(SocketAddress, long)}
+	 * begonnenen Aufruf.
+	 */
+	synchronized void complete(SocketAddress client, long requestId,
+			List<byte[]> datagrams) {
+		long bytes = 0;
+		for (byte[] datagram : datagrams) {
+			bytes += datagram.length;
+		}
+		Key key = new Key(client, requestId);
+		Entry entry = _entries.get(key);
+		if (entry == null) {
+			add(key, new Entry(datagrams, bytes)); // bereits verdraengt
+		} else {
+			/* ein wiederverwendeter Schluessel, z.B. Aufrufe ohne Request-Id */
+			_bytes -= entry.bytes;
+			entry.datagrams = datagrams;
+			entry.bytes = bytes;
+		}
+		_bytes += bytes;
+		expire();
+	}
+
+	/**
+	 * Vergisst einen begonnenen Aufruf, fuer den keine Antwort gesendet wurde.
+	 * Eine Wiederholung des Aufrufes wird dann erneut ausgefuehrt.
+	 */
+	synchronized void abandon(SocketAddress client, long requestId) {
+		Key key = new Key(client, requestId);
+		Entry entry = _entries.remove(key);
+		if (entry != null) {
+			_bytes -= entry.bytes;
+			ArrayDeque<Key> keys = _clients.get(client);
+			/* usually the call that was just begun, at the end */
+			keys.removeLastOccurrence(key);
+			if (keys.isEmpty()) {
+				_clients.remove(client);
+			}
+		}
+	}
+
+	/**
+	 * Liefert die von einem Client nachgeforderten Stuecke einer zerlegten
+	 * Antwort.
+	 *
+	 * @return die erneut zu sendenden Datagramme, leer falls die Antwort nicht
+	 *         (mehr) gespeichert ist
+	 */
+	synchronized List<byte[]> get(SocketAddress client, RPCResend resend) {
+		Entry entry = _entries.get(new Key(client, resend.getRequestid()));
+		if (entry == null || entry.datagrams == null) {
+			return Collections.emptyList();
+		}
+		return RPCFragmentation.select(entry.datagrams, resend);
+	}
+
+	private void add(Key key, Entry entry) {
+		_entries.put(key, entry);
+		ArrayDeque<Key> keys = _clients.get(key.client);
+		if (keys == null) {
+			keys = new ArrayDeque<Key>();
+			_clients.put(key.client, keys);
+		}
+		keys.addLast(key);
+		if (keys.size() > _clientWindow) {
+			Entry evicted = _entries.remove(keys.removeFirst());
+			_bytes -= evicted.bytes;
+		}
+	}
+
+	/**
+	 * Entfernt zu alte Antworten und, solange die Groessengrenze
+	 * ueberschritten ist, die aeltesten Antworten.
+	 */
+	private void expire() {
+		long oldest = System.currentTimeMillis() - _ttlMillis;
+		Iterator<Map.Entry<Key, Entry>> it = _entries.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Key, Entry> next = it.next();
+			Entry entry = next.getValue();
+			if (entry.created >= oldest && _bytes <= _maxBytes) {
+				break;
+			}
+			it.remove();
+			_bytes -= entry.bytes;
+			/* the oldest entry overall is also the oldest of its client */
+			ArrayDeque<Key> keys = _clients.get(next.getKey().client);
+			keys.removeFirst();
+			if (keys.isEmpty()) {
+				_clients.remove(next.getKey().client);
+			}
+		}
+	}
+
+	/**
+	 * Schluessel einer Antwort: Adresse des Clients und Request-Id. Die
+	 * Request-Ids zaehlt jeder Client fuer sich, nur zusammen mit der Adresse
+	 * sind sie eindeutig.
+	 */
+	static final class Key {
+		private final SocketAddress client;
+		private final long requestId;
+
+		Key(SocketAddress client, long requestId) {
+			this.client = client;
+			this.requestId = requestId;
+		}
+
+		@Override
+		public int hashCode() {
+			return client.hashCode() * 31
+					+ (int) (requestId ^ (requestId >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return requestId == other.requestId && client.equals(other.client);
+		}
+	}
+
+	/**
+	 * Eine gespeicherte Antwort; <tt>datagrams</tt> ist <tt>null</tt>, solange
+	 * der Aufruf noch ausgefuehrt wird.
+	 */
+	private static final class Entry {
+		private List<byte[]> datagrams;
+		private long bytes;
+		private final long created = System.currentTimeMillis();
+
+		Entry(List<byte[]> datagrams, long bytes) {
+			this.datagrams = datagrams;
+			this.bytes = bytes;
+		}
+	}
+}
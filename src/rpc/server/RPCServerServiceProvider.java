@@ -2,33 +2,206 @@ package rpc.server;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
-import java.net.InetAddress;
-import java.net.SocketException;
-import java.net.SocketTimeoutException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
+import rpc.RPCCodec;
+import rpc.RPCCompression;
 import rpc.RPCException;
+import rpc.RPCFragmentation;
+import rpc.RPCFragmentation.ResendRequest;
 import rpc.RPCSecrets;
 import rpc.RPCServiceProvider;
+import rpc.protobuf.RPCProtocol.Compression;
+import rpc.protobuf.RPCProtocol.RPCBatch;
+import rpc.protobuf.RPCProtocol.RPCBatchResult;
 import rpc.protobuf.RPCProtocol.RPCCall;
+import rpc.protobuf.RPCProtocol.RPCCancel;
+import rpc.protobuf.RPCProtocol.RPCFragment;
+import rpc.protobuf.RPCProtocol.RPCPacket;
 import rpc.protobuf.RPCProtocol.RPCResult;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 /**
  * Biete einen RPC-Service auf einen gegebenen Port an; so das statischen
  * Methoden von beliebigen Klassen ueber Netzwerk mit Hilfe des
  * <tt>RPCRemoteServiceProvider</tt> aufgerufen werden koennen.
+ * 
+ * <p>
+ * Der Empfang der Aufrufe ist von deren Ausfuehrung getrennt: {@link #run()}
+ * nimmt nur Datagramme entgegen und uebergibt jeden Aufruf zusammen mit der
+ * Adresse des Aufrufenden an einen Pool von Worker-Threads oder, je nach
+ * {@link ExecutionMode}, an einen eigenen virtuellen Thread.
+ * </p>
+ * 
+ * <p>
+ * Empfangen wird ueber einen nicht-blockierenden {@link DatagramChannel}, der
+ * an einem {@link Selector} registriert ist. Die Schleife wacht nur auf, wenn
+ * Daten anliegen oder {@link #terminate()} aufgerufen wurde. Optional werden
+ * mehrere Sockets mit <tt>SO_REUSEPORT</tt> an denselben Port gebunden, jeder
+ * mit einer eigenen Schleife.
+ * </p>
+ * 
+ * <p>
+ * Aufrufe und Ergebnisse, die nicht in ein Datagramm passen, werden mit
+ * {@link RPCFragmentation} zerlegt.
+ * </p>
+ * 
+ * <p>
+ * Alle versendeten Antworten werden eine Zeit lang in einem
+ * {@link RPCReplyCache} vorgehalten. Wiederholt ein Client einen Aufruf, so
+ * erhaelt er die gespeicherte Antwort, ohne dass die Methode erneut ausgefuehrt
+ * wird. Aus demselben Speicher werden verlorene Stuecke zerlegter Antworten
+ * nachgeliefert.
+ * </p>
+ * 
+ * <p>
+ * Ergebnisse ab einer gewissen Groesse werden mit dem ersten Verfahren
+ * komprimiert, das der Client in <tt>RPCCall.accept</tt> angibt (siehe
+ * {@link RPCCompression}).
+ * </p>
+ * 
+ * <p>
+ * Setzt ein Client <tt>resolve</tt>, so erhaelt er eine Kennung fuer die
+ * aufgerufene Methode und kann sie danach statt Klassen- und Methodenname
+ * senden (siehe {@link RPCServiceProvider#callById(int, Serializable[])}).
+ * </p>
+ * 
+ * <p>
+ * Die Ergebnisse reiner Methoden (siehe {@link RPCPure}) werden kodiert in
+ * einem {@link RPCMemoCache} gespeichert und fuer dieselben Parameter ohne
+ * erneute Ausfuehrung wiederverwendet.
+ * </p>
+ * 
+ * <p>
+ * Die Zahl der angenommenen, noch nicht beantworteten Aufrufe ist begrenzt
+ * (siehe {@link #setAdmissionLimit(int, int)}). Darueber hinaus lehnt der
+ * Server neue Aufrufe sofort mit <tt>retryafter</tt> ab, statt sie in einer
+ * immer laengeren Warteschlange zu sammeln; die Clients wiederholen sie nach
+ * der angegebenen Zeit.
+ * </p>
+ * 
+ * <p>
+ * Gibt ein Aufruf in <tt>timeout</tt> an, wie lange der Client noch wartet, so
+ * verwirft der Server ihn nach Ablauf dieser Zeit: vor dem Dekodieren der
+ * Parameter und erneut vor dem Senden des Ergebnisses. Mit einem
+ * {@link RPCCancel} kann der Client einen Aufruf auch ausdruecklich
+ * abbrechen; laeuft er bereits, so wird sein Thread unterbrochen.
+ * </p>
+ * 
+ * <p>
+ * Ein {@link RPCBatch} fasst mehrere Aufrufe in einer Nachricht zusammen. Die
+ * Aufrufe werden nacheinander oder, falls der Client es erlaubt, parallel
+ * ausgefuehrt und gemeinsam in einem {@link RPCBatchResult} beantwortet.
+ * </p>
  */
 public class RPCServerServiceProvider implements Runnable {
-	private DatagramSocket _socket;
-	private boolean _running;
+	/**
+	 * Legt fest, wie empfangene Aufrufe ausgefuehrt werden.
+	 */
+	public enum ExecutionMode {
+		/** Ein fester Pool mit einem Worker pro verfuegbarem Prozessor. */
+		WORKER_POOL,
+		/**
+		 * Jeder Aufruf laeuft in einem eigenen virtuellen Thread. Geeignet fuer
+		 * Methoden, die auf I/O warten. Virtuelle Threads gibt es erst ab Java
+		 * 21; auf aelteren Laufzeitumgebungen laeuft jeder Aufruf in einem
+		 * Thread eines Pools ohne feste Groesse.
+		 */
+		VIRTUAL_THREAD_PER_CALL
+	}
+
+	/** Groesse des Empfangspuffers, groessere Datagramme werden abgeschnitten. */
+	private static final int RECEIVE_BUFFER_SIZE = RPCFragmentation.MAX_DATAGRAM_SIZE;
+
+	/** Obergrenze fuer unvollstaendig empfangene Aufrufe. */
+	private static final long MAX_REASSEMBLY_BYTES = 32 * 1024 * 1024;
+
+	/** Obergrenze fuer die gespeicherten Antworten. */
+	private static final long MAX_REPLY_CACHE_BYTES = 32 * 1024 * 1024;
+
+	/**
+	 * Zeit in ms, die Antworten gespeichert werden. Deckt alle Wiederholungen
+	 * eines Clients ab.
+	 */
+	private static final long REPLY_CACHE_TTL = 15000;
+
+	/** Anzahl der Antworten, die pro Client hoechstens gespeichert werden. */
+	private static final int REPLY_CACHE_CLIENT_WINDOW = 4096;
+
+	/** Obergrenze fuer die gespeicherten Ergebnisse reiner Methoden. */
+	private static final long MAX_MEMO_BYTES = 16 * 1024 * 1024;
+
+	/**
+	 * Wie lange in ns ein Datagramm bei vollem Sendepuffer erneut gesendet
+	 * wird, bevor es verworfen wird.
+	 */
+	private static final long SEND_RETRY_TIME = TimeUnit.MILLISECONDS
+			.toNanos(RPCFragmentation.RESEND_DELAY);
+
+	/** Pause in ns zwischen zwei Sendeversuchen bei vollem Sendepuffer. */
+	private static final long SEND_RETRY_PAUSE = TimeUnit.MICROSECONDS
+			.toNanos(50);
+
+	/** Standardgrenze fuer angenommene, unbeantwortete Aufrufe. */
+	public static final int DEFAULT_ADMISSION_LIMIT = 10000;
+
+	/** Standardzeit in ms, nach der abgelehnte Aufrufe wiederholt werden. */
+	public static final int DEFAULT_RETRY_AFTER = 50;
+
+	private final Receiver[] _receivers;
+	private volatile boolean _running;
 	private RPCServiceProvider _serviceProvider;
-	private InetAddress _clientAddress;
-	private int _clientPort;
+	private final ExecutorService _workers;
+	private final AtomicInteger _callsInFlight = new AtomicInteger();
+	private volatile int _admissionLimit = DEFAULT_ADMISSION_LIMIT;
+	private volatile int _retryAfter = DEFAULT_RETRY_AFTER;
+	private final AtomicLong _rejectedCalls = new AtomicLong();
+	private final AtomicLong _expiredCalls = new AtomicLong();
+	private final AtomicLong _cancelledCalls = new AtomicLong();
+	private final AtomicLong _droppedDatagrams = new AtomicLong();
+	/**
+	 * Die angenommenen Aufrufe, die noch nicht beendet sind, nach Client und
+	 * Request-Id; fuer {@link RPCCancel}.
+	 */
+	private final ConcurrentMap<RPCReplyCache.Key, CallTask> _activeCalls = new ConcurrentHashMap<RPCReplyCache.Key, CallTask>();
+	private final RPCReplyCache _replyCache = new RPCReplyCache(
+			MAX_REPLY_CACHE_BYTES, REPLY_CACHE_TTL, REPLY_CACHE_CLIENT_WINDOW);
+	private final RPCMemoCache _memo = new RPCMemoCache(MAX_MEMO_BYTES);
+	/**
+	 * Epoche der vergebenen Methodenkennungen. Zufaellig, damit Kennungen aus
+	 * einem frueheren Lauf des Servers erkannt werden.
+	 */
+	private final long _epoch = ThreadLocalRandom.current().nextLong() | 1;
+	/** Klassen- und Methodenname zu jeder vergebenen Methodenkennung. */
+	private final ConcurrentMap<Integer, String> _methodNames = new ConcurrentHashMap<Integer, String>();
+	private volatile RPCCodec _codec = RPCSecrets.DEFAULT_CODEC;
+	private volatile int _compressionThreshold = RPCCompression.DEFAULT_THRESHOLD;
 
 	/**
+	 * Erzeugt einen Server mit einem Worker pro verfuegbarem Prozessor.
+	 * 
 	 * @param serviceProvider
 	 *            der RPC-Service, der genutz werden soll, um die Methode
 	 *            aufzurufen.
@@ -36,40 +209,635 @@ public class RPCServerServiceProvider implements Runnable {
 	 *            Port, auf dem der Server den RPC Service anbietet
 	 */
 	public RPCServerServiceProvider(RPCServiceProvider serviceProvider, int port)
-			throws SocketException {
-		_socket = new DatagramSocket(port);
-		_socket.setSoTimeout(500);
+			throws IOException {
+		this(serviceProvider, port, ExecutionMode.WORKER_POOL);
+	}
+
+	/**
+	 * @param serviceProvider
+	 *            der RPC-Service, der genutz werden soll, um die Methode
+	 *            aufzurufen.
+	 * @param port
+	 *            Port, auf dem der Server den RPC Service anbietet
+	 * @param mode
+	 *            legt fest, wie die Aufrufe ausgefuehrt werden
+	 */
+	public RPCServerServiceProvider(RPCServiceProvider serviceProvider,
+			int port, ExecutionMode mode) throws IOException {
+		this(serviceProvider, port, newExecutor(mode), 1);
+	}
+
+	/**
+	 * Erzeugt einen Server, der mehrere Sockets mit <tt>SO_REUSEPORT</tt> an
+	 * denselben Port bindet. Jeder Socket hat einen eigenen Thread, der ihn
+	 * ausliest; der Kernel verteilt die Clients anhand ihrer Adresse auf die
+	 * Sockets. So ist der Empfang nicht auf das begrenzt, was ein Thread
+	 * schafft. Wird <tt>SO_REUSEPORT</tt> nicht unterstuetzt, so wird nur ein
+	 * Socket geoeffnet (siehe {@link #getSockets()}).
+	 * 
+	 * @param serviceProvider
+	 *            der RPC-Service, der genutz werden soll, um die Methode
+	 *            aufzurufen.
+	 * @param port
+	 *            Port, auf dem der Server den RPC Service anbietet
+	 * @param mode
+	 *            legt fest, wie die Aufrufe ausgefuehrt werden
+	 * @param sockets
+	 *            Anzahl der Sockets, z.B. einer pro Prozessorkern
+	 */
+	public RPCServerServiceProvider(RPCServiceProvider serviceProvider,
+			int port, ExecutionMode mode, int sockets) throws IOException {
+		this(serviceProvider, port, newExecutor(mode), sockets);
+	}
+
+	/**
+	 * @param serviceProvider
+	 *            der RPC-Service, der genutz werden soll, um die Methode
+	 *            aufzurufen.
+	 * @param port
+	 *            Port, auf dem der Server den RPC Service anbietet
+	 * @param workers
+	 *            Anzahl der Threads, die Aufrufe parallel ausfuehren
+	 */
+	public RPCServerServiceProvider(RPCServiceProvider serviceProvider,
+			int port, int workers) throws IOException {
+		this(serviceProvider, port, Executors.newFixedThreadPool(workers), 1);
+	}
+
+	private RPCServerServiceProvider(RPCServiceProvider serviceProvider,
+			int port, ExecutorService workers, int sockets) throws IOException {
+		if (sockets < 1)
+			throw new IllegalArgumentException("at least one socket needed");
+		if (sockets > 1) {
+			try (DatagramChannel probe = DatagramChannel.open()) {
+				if (!probe.supportedOptions().contains(
+						StandardSocketOptions.SO_REUSEPORT)) {
+					sockets = 1;
+				}
+			}
+		}
+		_receivers = new Receiver[sockets];
+		try {
+			for (int i = 0; i < sockets; i++) {
+				_receivers[i] = new Receiver(port, sockets > 1);
+				/* port 0: all further sockets share the port of the first */
+				port = _receivers[i].getPort();
+			}
+		} catch (IOException e) {
+			for (Receiver receiver : _receivers) {
+				if (receiver != null) {
+					receiver.close();
+				}
+			}
+			throw e;
+		}
 		_running = true;
 		_serviceProvider = serviceProvider;
+		_workers = workers;
 		System.out.println("Starting server using port \"" + port + "\".");
 	}
 
+	private static ExecutorService newExecutor(ExecutionMode mode) {
+		if (mode == ExecutionMode.VIRTUAL_THREAD_PER_CALL) {
+			/* looked up reflectively, so that the server also runs on Java 17 */
+			try {
+				return (ExecutorService) Executors.class.getMethod(
+						"newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				return Executors.newCachedThreadPool();
+			}
+		}
+		return Executors.newFixedThreadPool(Runtime.getRuntime()
+				.availableProcessors());
+	}
+
 	/**
-	 * Waits for remote procedure calls, executes them an send the result back
-	 * to the client.
+	 * Waits for remote procedure calls and hands them to the worker pool,
+	 * which executes them and sends the result back to the client. With more
+	 * than one socket, the other sockets are read by threads started here.
+	 * Returns after {@link #terminate()} once all sockets are closed.
 	 */
 	@Override
 	public void run() {
-		while (_running) {
-			RPCCall remoteCall = null;
+		Thread[] threads = new Thread[_receivers.length - 1];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(_receivers[i + 1], "rpc-server-receiver-"
+					+ (i + 1));
+			threads[i].start();
+		}
+		_receivers[0].run();
+		for (Thread thread : threads) {
 			try {
-				remoteCall = receive();
-			} catch (SocketTimeoutException e) {
-				continue;
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		_workers.shutdown();
+		try {
+			_workers.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (Receiver receiver : _receivers) {
+			receiver.close();
+		}
+	}
+
+	/**
+	 * Ein Socket des Servers mit seinem eigenen Selector, Empfangspuffer und
+	 * den unvollstaendig empfangenen Aufrufen. Da der Kernel die Datagramme
+	 * eines Clients immer demselben Socket zustellt, muss nichts davon mit den
+	 * anderen Sockets geteilt werden.
+	 */
+	private final class Receiver implements Runnable {
+		private final DatagramChannel _channel;
+		private final Selector _selector;
+		private final RPCFragmentation.Reassembler _reassembler = new RPCFragmentation.Reassembler(
+				MAX_REASSEMBLY_BYTES);
+
+		Receiver(int port, boolean reusePort) throws IOException {
+			_channel = DatagramChannel.open();
+			try {
+				if (reusePort) {
+					_channel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+				}
+				_channel.bind(new InetSocketAddress(port));
+				_channel.configureBlocking(false);
+				_selector = Selector.open();
+				_channel.register(_selector, SelectionKey.OP_READ);
+			} catch (IOException e) {
+				_channel.close();
+				throw e;
+			}
+		}
+
+		int getPort() throws IOException {
+			return ((InetSocketAddress) _channel.getLocalAddress()).getPort();
+		}
+
+		@Override
+		public void run() {
+			/*
+			 * a heap buffer, so that the packets can be parsed directly from
+			 * its array; protobuf copies all fields, so it is free again right
+			 * after
+			 */
+			ByteBuffer buffer = ByteBuffer.allocate(RECEIVE_BUFFER_SIZE);
+			long lastSweep = 0;
+			while (_running) {
+				try {
+					/* only wake up periodically while calls are partially received */
+					_selector.select(_reassembler.isEmpty() ? 0
+							: RPCFragmentation.RESEND_DELAY);
+				} catch (IOException e) {
+					e.printStackTrace();
+					continue;
+				}
+				Iterator<SelectionKey> keys = _selector.selectedKeys()
+						.iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					if (key.isValid() && key.isReadable()) {
+						receiveAll(buffer);
+					}
+				}
+				long now = System.currentTimeMillis();
+				if (now - lastSweep >= RPCFragmentation.RESEND_DELAY / 2
+						&& !_reassembler.isEmpty()) {
+					lastSweep = now;
+					for (ResendRequest request : _reassembler.sweep()) {
+						send(request.getPacket().toByteArray(), _channel,
+								request.getPeer());
+					}
+				}
+			}
+		}
+
+		/**
+		 * Reads every datagram currently queued on the channel and handles
+		 * it.
+		 * 
+		 * @param buffer
+		 *            the receive buffer, reused for every datagram
+		 */
+		private void receiveAll(ByteBuffer buffer) {
+			while (true) {
+				buffer.clear();
+				SocketAddress client;
+				RPCPacket packet;
+				try {
+					client = _channel.receive(buffer);
+					if (client == null) {
+						return; // nothing left to read
+					}
+					buffer.flip();
+					packet = RPCPacket.parseFrom(CodedInputStream.newInstance(
+							buffer.array(), buffer.arrayOffset(), buffer.limit()));
+				} catch (InvalidProtocolBufferException e) {
+					e.printStackTrace();
+					continue;
+				} catch (IOException e) {
+					e.printStackTrace();
+					return;
+				}
+				handle(packet, this, client);
+			}
+		}
+
+		void wakeup() {
+			_selector.wakeup();
+		}
+
+		void close() {
+			try {
+				_selector.close();
+				_channel.close();
 			} catch (IOException e) {
 				e.printStackTrace();
-				continue;
+			}
+		}
+	}
+
+	/**
+	 * Handles a received packet: new calls and batches are submitted for
+	 * execution, repeated ones and requests for missing fragments of a result
+	 * are answered from the reply cache, fragments are reassembled and
+	 * cancelled calls are stopped.
+	 * 
+	 * @param packet
+	 *            the received packet
+	 * @param receiver
+	 *            the socket the packet was received on
+	 * @param client
+	 *            the sender of the packet
+	 */
+	private void handle(RPCPacket packet, Receiver receiver,
+			SocketAddress client) {
+		DatagramChannel channel = receiver._channel;
+		if (packet.hasCall()) {
+			RPCCall call = packet.getCall();
+			if (call.hasRequestid()
+					&& isRetry(call.getRequestid(), channel, client)) {
+				return;
+			}
+			if (!admit()) {
+				rejectOverloaded(call.getRequestid(), false, channel, client);
+				return;
+			}
+			CallTask task = new CallTask(call, channel, client);
+			if (call.hasRequestid()) {
+				_activeCalls.put(task._key, task);
+			}
+			_workers.execute(task);
+		} else if (packet.hasBatch()) {
+			RPCBatch batch = packet.getBatch();
+			if (isRetry(batch.getRequestid(), channel, client)) {
+				return;
+			}
+			if (!admit()) {
+				rejectOverloaded(batch.getRequestid(), true, channel, client);
+				return;
+			}
+			_workers.execute(new BatchTask(batch, channel, client));
+		} else if (packet.hasFragment()) {
+			RPCFragment fragment = packet.getFragment();
+			if (fragment.getIndex() == 0
+					&& resendReply(_replyCache.peek(client,
+							fragment.getRequestid()), channel, client)) {
+				return; // a retransmission of a call received before
+			}
+			ByteString message = receiver._reassembler.add(client, fragment);
+			if (message != null) {
+				try {
+					handle(RPCPacket.parseFrom(message), receiver, client);
+				} catch (InvalidProtocolBufferException e) {
+					e.printStackTrace();
+				}
+			} else {
+				ResendRequest request = receiver._reassembler.requestNext(
+						client, fragment.getRequestid());
+				if (request != null) {
+					send(request.getPacket().toByteArray(), channel, client);
+				}
+			}
+		} else if (packet.hasResend()) {
+			for (byte[] datagram : _replyCache.get(client, packet.getResend())) {
+				send(datagram, channel, client);
+			}
+		} else if (packet.hasCancel()) {
+			CallTask task = _activeCalls.get(new RPCReplyCache.Key(client,
+					packet.getCancel().getRequestid()));
+			if (task != null) {
+				task.cancel();
+			}
+		}
+	}
+
+	/**
+	 * Checks the reply cache for an earlier call with the same request id. If
+	 * there is one, its stored reply is resent (unless it is still executing)
+	 * and the call must not be executed again.
+	 * 
+	 * @return <tt>true</tt> if the call is a retry
+	 */
+	private boolean isRetry(long requestId, DatagramChannel channel,
+			SocketAddress client) {
+		return resendReply(_replyCache.begin(client, requestId), channel,
+				client);
+	}
+
+	/**
+	 * Sends a stored reply again. Of a fragmented reply only the first
+	 * fragments are sent, the client asks for the remaining ones.
+	 * 
+	 * @param reply
+	 *            the reply as returned by the reply cache, empty if the call
+	 *            is still executing
+	 * @return <tt>false</tt> if <tt>reply</tt> is <tt>null</tt>
+	 */
+	private boolean resendReply(List<byte[]> reply, DatagramChannel channel,
+			SocketAddress client) {
+		if (reply == null) {
+			return false;
+		}
+		for (byte[] datagram : RPCFragmentation.firstWindow(reply)) {
+			send(datagram, channel, client);
+		}
+		return true;
+	}
+
+	/**
+	 * Counts a received call or batch as in flight, unless the admission
+	 * limit is reached.
+	 * 
+	 * @return <tt>true</tt> if the call may be executed
+	 */
+	private boolean admit() {
+		int limit = _admissionLimit;
+		while (true) {
+			int inFlight = _callsInFlight.get();
+			if (inFlight >= limit) {
+				return false;
+			}
+			if (_callsInFlight.compareAndSet(inFlight, inFlight + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Tells the client that the server is overloaded and the call was not
+	 * executed. The reply is not stored in the reply cache, so the retry the
+	 * client sends later is executed.
+	 * 
+	 * @param batch
+	 *            whether the rejected request is a batch
+	 */
+	private void rejectOverloaded(long requestId, boolean batch,
+			DatagramChannel channel, SocketAddress client) {
+		_replyCache.abandon(client, requestId);
+		_rejectedCalls.incrementAndGet();
+		RPCPacket.Builder reply = RPCPacket.newBuilder();
+		if (batch) {
+			reply.setBatchresult(RPCBatchResult.newBuilder()
+					.setRequestid(requestId).setRetryafter(_retryAfter));
+		} else {
+			reply.setResult(RPCResult.newBuilder().setRequestid(requestId)
+					.setRetryafter(_retryAfter));
+		}
+		send(reply.build().toByteArray(), channel, client);
+	}
+
+	/**
+	 * A received call together with the address its result has to be sent
+	 * to and, if the client sent a timeout, the time after which nobody waits
+	 * for the result any more.
+	 */
+	private final class CallTask implements Runnable {
+		private final RPCCall _remoteCall;
+		private final DatagramChannel _channel;
+		private final SocketAddress _client;
+		private final RPCReplyCache.Key _key;
+		private final long _received = System.nanoTime();
+		private final long _deadline;
+		private volatile boolean _cancelled;
+		/** The thread executing the call, guarded by <tt>this</tt>. */
+		private Thread _thread;
+
+		CallTask(RPCCall remoteCall, DatagramChannel channel,
+				SocketAddress client) {
+			_remoteCall = remoteCall;
+			_channel = channel;
+			_client = client;
+			_key = new RPCReplyCache.Key(client, remoteCall.getRequestid());
+			_deadline = _received
+					+ TimeUnit.MILLISECONDS.toNanos(remoteCall.getTimeout()
+							& 0xFFFFFFFFL);
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				_thread = Thread.currentThread();
 			}
 			try {
-				ByteString byteResult = execute(remoteCall);
-				sendResult(byteResult, _clientAddress, _clientPort); //only if no exception was thrown remotely
+				if (dropped()) {
+					return;
+				}
+				RPCResult.Builder result = execute(_remoteCall);
+				if (dropped()) {
+					return;
+				}
+				result.setServicetime(serviceTime(_received));
+				sendResult(result, _remoteCall, _channel, _client); //only if no exception was thrown remotely
 			} catch (RPCException e) {
-				throwExecption(e, _clientAddress, _clientPort);
-			} catch (ClassNotFoundException e) {
-				e.printStackTrace();
+				if (!dropped()) {
+					throwExecption(e, _remoteCall.getRequestid(),
+							_remoteCall.getAcceptList(), _received, _channel,
+							_client);
+				}
+			} catch (ClassNotFoundException | RuntimeException e) {
+				/*
+				 * answer like a batch does, so that retries are answered from
+				 * the reply cache instead of failing again
+				 */
+				if (!dropped()) {
+					try {
+						throwExecption(new RPCException(e),
+								_remoteCall.getRequestid(),
+								_remoteCall.getAcceptList(), _received,
+								_channel, _client);
+					} catch (RuntimeException encoding) {
+						/* no reply was sent, a retry executes the call again */
+						encoding.printStackTrace();
+						_replyCache.abandon(_client, _remoteCall.getRequestid());
+					}
+				}
+			} finally {
+				synchronized (this) {
+					_thread = null;
+				}
+				/* clear an interrupt by cancel(), the worker is reused */
+				Thread.interrupted();
+				_activeCalls.remove(_key, this);
+				_callsInFlight.decrementAndGet();
+			}
+		}
+
+		/**
+		 * Cancels the call on request of the client. If it is executing, the
+		 * executing thread is interrupted.
+		 */
+		void cancel() {
+			synchronized (this) {
+				if (_cancelled) {
+					return;
+				}
+				_cancelled = true;
+				if (_thread != null) {
+					_thread.interrupt();
+				}
 			}
+			_cancelledCalls.incrementAndGet();
+		}
+
+		/**
+		 * Checks whether the client has cancelled or given up on the call. A
+		 * dropped call is forgotten by the reply cache, since no reply is
+		 * sent.
+		 * 
+		 * @return <tt>true</tt> if the call is to be dropped
+		 */
+		private boolean dropped() {
+			if (!_cancelled) {
+				if (!_remoteCall.hasTimeout()
+						|| System.nanoTime() - _deadline < 0) {
+					return false;
+				}
+				_expiredCalls.incrementAndGet();
+			}
+			_replyCache.abandon(_client, _remoteCall.getRequestid());
+			return true;
 		}
-		_socket.close();
+	}
+
+	/**
+	 * A received batch of calls. The calls are executed one after another, or
+	 * each on its own worker if the client allows parallel execution. Whoever
+	 * finishes the last call sends the results.
+	 */
+	private final class BatchTask implements Runnable {
+		private final RPCBatch _batch;
+		private final DatagramChannel _channel;
+		private final SocketAddress _client;
+		private final RPCResult[] _results;
+		private final AtomicInteger _remaining;
+		private final long _received = System.nanoTime();
+
+		BatchTask(RPCBatch batch, DatagramChannel channel, SocketAddress client) {
+			_batch = batch;
+			_channel = channel;
+			_client = client;
+			_results = new RPCResult[batch.getCallsCount()];
+			_remaining = new AtomicInteger(_results.length);
+		}
+
+		@Override
+		public void run() {
+			if (_results.length == 0) {
+				finish();
+			} else if (_batch.getParallel()) {
+				for (int i = 1; i < _results.length; i++) {
+					final int index = i;
+					_workers.execute(() -> runEntry(index));
+				}
+				runEntry(0);
+			} else {
+				for (int i = 0; i < _results.length; i++) {
+					runEntry(i);
+				}
+			}
+		}
+
+		private void runEntry(int index) {
+			try {
+				_results[index] = invoke(_batch.getCalls(index));
+			} catch (RuntimeException e) {
+				_results[index] = newResult(
+						_codec.encode(new RPCException(e)), true,
+						_batch.getCalls(index).getAcceptList()).build();
+			}
+			if (_remaining.decrementAndGet() == 0) {
+				finish();
+			}
+		}
+
+		private void finish() {
+			try {
+				RPCBatchResult.Builder builder = RPCBatchResult.newBuilder();
+				builder.setRequestid(_batch.getRequestid());
+				for (RPCResult result : _results) {
+					builder.addResults(result);
+				}
+				builder.setServicetime(serviceTime(_received));
+				send(_batch.getRequestid(), RPCPacket.newBuilder()
+						.setBatchresult(builder).build(), _channel, _client);
+			} catch (RPCException e) {
+				throwExecption(e, _batch.getRequestid(),
+						Collections.<Compression> emptyList(), _received,
+						_channel, _client);
+			} finally {
+				_callsInFlight.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Executes a call of a batch and packs its return value or the thrown
+	 * exception into a result.
+	 */
+	private RPCResult invoke(RPCCall remoteCall) {
+		List<Compression> accepted = remoteCall.getAcceptList();
+		try {
+			return execute(remoteCall).build();
+		} catch (RPCException e) {
+			return newResult(_codec.encode(e), true, accepted).build();
+		} catch (ClassNotFoundException e) {
+			return newResult(_codec.encode(new RPCException(e)), true, accepted)
+					.build();
+		}
+	}
+
+	/**
+	 * Creates a result carrying the return value or the exception. It is
+	 * compressed with the first algorithm the client accepts if it is at
+	 * least as large as the compression threshold.
+	 * 
+	 * @param value
+	 *            the encoded return value or exception
+	 * @param exception
+	 *            whether <tt>value</tt> is an exception
+	 * @param accepted
+	 *            the algorithms accepted by the client
+	 */
+	private RPCResult.Builder newResult(ByteString value, boolean exception,
+			List<Compression> accepted) {
+		RPCResult.Builder builder = RPCResult.newBuilder();
+		Compression compression = RPCCompression.choose(accepted);
+		ByteString compressed = RPCCompression.compress(compression,
+				_compressionThreshold, value);
+		if (compressed != null) {
+			builder.setCompression(compression);
+			value = compressed;
+		}
+		if (exception) {
+			builder.setException(value);
+		} else {
+			builder.setResult(value);
+		}
+		return builder;
 	}
 
 	/**
@@ -77,39 +845,97 @@ public class RPCServerServiceProvider implements Runnable {
 	 * 
 	 * @param remoteCall
 	 *            the remote call
-	 * @return the result as byteString
+	 * @return the result carrying the encoded return value and, if requested,
+	 *         the id of the method; the request id is not set yet
 	 * @throws ClassNotFoundException
 	 * @throws RPCException
 	 *             if the executed method throws an exception.
 	 */
-	private ByteString execute(RPCCall remoteCall)
+	private RPCResult.Builder execute(RPCCall remoteCall)
 			throws ClassNotFoundException, RPCException {
-		Serializable[] params = (Serializable[]) RPCSecrets
-				.deserialize(remoteCall.getParametersList());
-		Object result = _serviceProvider.callexplicit(
-				remoteCall.getClassname(), remoteCall.getMethodname(), params);
-		return RPCSecrets.serialize(result);
+		boolean byId = remoteCall.hasMethodid();
+		if (byId && remoteCall.getEpoch() != _epoch) {
+			/* the id stems from an earlier run of the server */
+			return RPCResult.newBuilder().setUnknownmethod(true);
+		}
+		RPCCodec codec = _codec;
+		List<ByteString> encoded = new ArrayList<ByteString>(
+				remoteCall.getParametersCount());
+		for (ByteString param : remoteCall.getParametersList()) {
+			encoded.add(RPCCompression.decompress(remoteCall.getCompression(),
+					param));
+		}
+		RPCMemoCache.Key memoKey = null;
+		ByteString byteResult = null;
+		if (!_memo.isEmpty()) {
+			memoKey = memoKey(remoteCall, encoded);
+			byteResult = memoKey != null ? _memo.get(memoKey) : null;
+		}
+		boolean resolve = remoteCall.getResolve() && !byId;
+		Serializable[] params = null;
+		int methodId = byId ? remoteCall.getMethodid() : -1;
+		if (byteResult == null || resolve) {
+			params = new Serializable[encoded.size()];
+			for (int i = 0; i < params.length; i++) {
+				params[i] = (Serializable) codec.decode(encoded.get(i));
+			}
+			if (!byId) {
+				/*
+				 * a single lookup of the method serves the call, the check
+				 * whether it is pure and the id sent back to the client
+				 */
+				methodId = _serviceProvider.methodId(
+						remoteCall.getClassname(), remoteCall.getMethodname(),
+						params);
+			}
+		}
+		if (byteResult == null) {
+			Object result = methodId >= 0 ? _serviceProvider.callById(
+					methodId, params) : _serviceProvider.callexplicit(
+					remoteCall.getClassname(), remoteCall.getMethodname(),
+					params);
+			byteResult = codec.encode(result);
+			if (methodId >= 0 ? _serviceProvider.isPure(methodId)
+					: _serviceProvider.isPure(remoteCall.getClassname(),
+							remoteCall.getMethodname(), params)) {
+				if (memoKey == null) {
+					memoKey = memoKey(remoteCall, encoded);
+				}
+				if (memoKey != null) {
+					_memo.put(memoKey, byteResult);
+				}
+			}
+		}
+		RPCResult.Builder builder = newResult(byteResult, false,
+				remoteCall.getAcceptList());
+		if (resolve && methodId >= 0) {
+			_methodNames.putIfAbsent(methodId, remoteCall.getClassname() + '#'
+					+ remoteCall.getMethodname());
+			builder.setMethodid(methodId);
+			builder.setEpoch(_epoch);
+		}
+		return builder;
 	}
 
 	/**
-	 * Receives a remote procedure call from a client.
+	 * Key of the result of a call in the memo. Calls by id use the names the
+	 * id was assigned for, so that they share results with calls by name.
 	 * 
-	 * @return the received call.
-	 * @throws IOException
-	 *             in case of socket timeout.
+	 * @return the key, or <tt>null</tt> if the method id is unknown
 	 */
-	private RPCCall receive() throws IOException {
-		byte[] buffer = new byte[1024];
-		DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
-		_socket.receive(packet);
-
-		byte[] bytes = new byte[packet.getLength()];
-		for (int i = 0; i < packet.getLength(); i++) {
-			bytes[i] = buffer[i];
+	private RPCMemoCache.Key memoKey(RPCCall remoteCall,
+			List<ByteString> encoded) {
+		String method;
+		if (remoteCall.hasMethodid()) {
+			method = _methodNames.get(remoteCall.getMethodid());
+			if (method == null) {
+				return null;
+			}
+		} else {
+			method = remoteCall.getClassname() + '#'
+					+ remoteCall.getMethodname();
 		}
-		_clientAddress = packet.getAddress();
-		_clientPort = packet.getPort();
-		return RPCCall.parseFrom(bytes);
+		return new RPCMemoCache.Key(method, encoded);
 	}
 
 	/**
@@ -117,23 +943,20 @@ public class RPCServerServiceProvider implements Runnable {
 	 * 
 	 * @param result
 	 *            the result
-	 * @param host
+	 * @param remoteCall
+	 *            the call this result belongs to
+	 * @param channel
+	 *            the channel the call was received on
+	 * @param client
 	 *            the client address
-	 * @param port
-	 *            the port
+	 * @throws RPCException
+	 *             if the result is too large to be sent.
 	 */
-	private void sendResult(ByteString result, InetAddress host, int port) {
-		RPCResult.Builder builder = RPCResult.newBuilder();
-		builder.setResult(result);
-		RPCResult message = builder.build();
-		byte[] bytes = message.toByteArray();
-		DatagramPacket packet = new DatagramPacket(bytes, bytes.length, host,
-				port);
-		try {
-			_socket.send(packet);
-		} catch (IOException wmca) {
-			wmca.printStackTrace();
-		}
+	private void sendResult(RPCResult.Builder result, RPCCall remoteCall,
+			DatagramChannel channel, SocketAddress client) throws RPCException {
+		result.setRequestid(remoteCall.getRequestid());
+		send(remoteCall.getRequestid(), RPCPacket.newBuilder()
+				.setResult(result).build(), channel, client);
 	}
 
 	/**
@@ -142,30 +965,191 @@ public class RPCServerServiceProvider implements Runnable {
 	 * 
 	 * @param e
 	 *            the exeption
-	 * @param host
+	 * @param requestId
+	 *            the id of the call this result belongs to
+	 * @param accepted
+	 *            the compression algorithms accepted by the client
+	 * @param received
+	 *            when the call was received, see {@link System#nanoTime()}
+	 * @param channel
+	 *            the channel the call was received on
+	 * @param client
 	 *            the client address
-	 * @param port
-	 *            the port
 	 */
-	private void throwExecption(RPCException e, InetAddress host, int port) {
-		RPCResult.Builder builder = RPCResult.newBuilder();
-		builder.setException(RPCSecrets.serialize(e));
-		RPCResult message = builder.build();
-		byte[] bytes = message.toByteArray();
-		DatagramPacket packet = new DatagramPacket(bytes, bytes.length, host,
-				port);
+	private void throwExecption(RPCException e, long requestId,
+			List<Compression> accepted, long received,
+			DatagramChannel channel, SocketAddress client) {
+		RPCResult.Builder builder = newResult(_codec.encode(e), true, accepted);
+		builder.setRequestid(requestId);
+		builder.setServicetime(serviceTime(received));
 		try {
-			_socket.send(packet);
+			send(requestId, RPCPacket.newBuilder().setResult(builder).build(),
+					channel, client);
+		} catch (RPCException tooLarge) {
+			tooLarge.printStackTrace();
+		}
+	}
+
+	/**
+	 * @param received
+	 *            when the call was received, see {@link System#nanoTime()}
+	 * @return the time in microseconds since then, for the
+	 *         <tt>servicetime</tt> field of a result
+	 */
+	private static int serviceTime(long received) {
+		return (int) Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime()
+				- received), 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Sends a reply to the client, split into fragments if it does not fit
+	 * into a single datagram. The datagrams are stored in the reply cache, so
+	 * that retries and requests for lost fragments can be answered without
+	 * executing the call again.
+	 * 
+	 * @param requestId
+	 *            the id of the call or batch the reply belongs to
+	 * @param packet
+	 *            the reply
+	 * @throws RPCException
+	 *             if the reply is too large to be sent.
+	 */
+	private void send(long requestId, RPCPacket packet,
+			DatagramChannel channel, SocketAddress client) throws RPCException {
+		List<byte[]> datagrams = RPCFragmentation.split(requestId, packet);
+		_replyCache.complete(client, requestId, datagrams);
+		for (byte[] datagram : RPCFragmentation.firstWindow(datagrams)) {
+			send(datagram, channel, client);
+		}
+	}
+
+	/**
+	 * Sends a datagram to the client. The channel is non-blocking; while the
+	 * socket send buffer is full, sending is retried for up to
+	 * {@link #SEND_RETRY_TIME}. After that the datagram is counted as dropped
+	 * and the client has to ask for it again.
+	 */
+	private void send(byte[] datagram, DatagramChannel channel,
+			SocketAddress client) {
+		ByteBuffer buffer = ByteBuffer.wrap(datagram);
+		try {
+			long giveUpAt = 0;
+			for (int attempt = 0; channel.send(buffer, client) == 0; attempt++) {
+				long now = System.nanoTime();
+				if (attempt == 0) {
+					giveUpAt = now + SEND_RETRY_TIME;
+				} else if (now - giveUpAt >= 0) {
+					_droppedDatagrams.incrementAndGet();
+					return;
+				}
+				LockSupport.parkNanos(SEND_RETRY_PAUSE);
+			}
 		} catch (IOException wmca) {
 			wmca.printStackTrace();
 		}
 	}
 
+	/**
+	 * Setzt den Codec fuer Parameter und Ergebnisse. Die Clients muessen
+	 * denselben Codec verwenden.
+	 * 
+	 * @param codec
+	 *            der Codec, standardmaessig {@link RPCSecrets#DEFAULT_CODEC}
+	 */
+	public void setCodec(RPCCodec codec) {
+		if (codec == null)
+			throw new NullPointerException("codec");
+		_codec = codec;
+		_memo.clear(); // encoded with the previous codec
+	}
+
+	/**
+	 * Setzt die Groesse in Bytes, ab der Ergebnisse komprimiert werden.
+	 * 
+	 * @param threshold
+	 *            die Grenze, standardmaessig
+	 *            {@link RPCCompression#DEFAULT_THRESHOLD}
+	 */
+	public void setCompressionThreshold(int threshold) {
+		_compressionThreshold = threshold;
+	}
+
+	/**
+	 * Begrenzt die Zahl der Aufrufe, die empfangen, aber noch nicht
+	 * beantwortet wurden. Weitere Aufrufe werden abgelehnt; der Client soll
+	 * sie fruehestens nach <tt>retryAfterMillis</tt> wiederholen. Ein Stapel
+	 * zaehlt als ein Aufruf.
+	 * 
+	 * @param limit
+	 *            die Grenze, standardmaessig {@link #DEFAULT_ADMISSION_LIMIT}
+	 * @param retryAfterMillis
+	 *            die Wartezeit in ms, standardmaessig
+	 *            {@link #DEFAULT_RETRY_AFTER}
+	 */
+	public void setAdmissionLimit(int limit, int retryAfterMillis) {
+		if (limit <= 0 || retryAfterMillis < 0)
+			throw new IllegalArgumentException(
+					"limit must be positive, retry time not negative");
+		_admissionLimit = limit;
+		_retryAfter = retryAfterMillis;
+	}
+
+	/**
+	 * @return Anzahl der Aufrufe und Stapel, die wegen Ueberlastung abgelehnt
+	 *         wurden.
+	 */
+	public long getRejectedCalls() {
+		return _rejectedCalls.get();
+	}
+
+	/**
+	 * @return Anzahl der Aufrufe, die verworfen wurden, weil der Client nicht
+	 *         mehr auf ihr Ergebnis wartete.
+	 */
+	public long getExpiredCalls() {
+		return _expiredCalls.get();
+	}
+
+	/**
+	 * @return Anzahl der Aufrufe, die der Client mit {@link RPCCancel}
+	 *         abgebrochen hat, bevor sie beendet waren.
+	 */
+	public long getCancelledCalls() {
+		return _cancelledCalls.get();
+	}
+
+	/**
+	 * @return Anzahl der Datagramme, die nicht gesendet werden konnten, weil
+	 *         der Sendepuffer zu lange voll war.
+	 */
+	public long getDroppedDatagrams() {
+		return _droppedDatagrams.get();
+	}
+
+	/**
+	 * @return Anzahl der Aufrufe, die empfangen, aber noch nicht beantwortet
+	 *         wurden (wartend oder in Ausfuehrung).
+	 */
+	public int getCallsInFlight() {
+		return _callsInFlight.get();
+	}
+
+	/**
+	 * @return Anzahl der gebundenen Sockets; 1, falls mehrere angefordert
+	 *         wurden, <tt>SO_REUSEPORT</tt> aber nicht unterstuetzt wird.
+	 */
+	public int getSockets() {
+		return _receivers.length;
+	}
+
 	/**
 	 * Terminiert den Server.
 	 */
 	public void terminate() {
 		_running = false;
+		for (Receiver receiver : _receivers) {
+			receiver.wakeup();
+		}
 	}
 
 }
@@ -0,0 +1,20 @@
+package rpc.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Kennzeichnet eine Klasse, deren oeffentliche statische Methoden entfernt
+ * aufgerufen werden. Laeuft beim Uebersetzen der
+ * {@link RPCDispatcherProcessor}, so erzeugt er fuer die Klasse einen
+ * {@link RPCDispatcher}, ueber den der {@link RPCLocalServiceProvider} die
+ * Methoden direkt statt per Reflection aufruft.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface RPCService {
+}
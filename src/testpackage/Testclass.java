@@ -2,6 +2,9 @@ package testpackage;
 
 import java.util.EmptyStackException;
 
+import rpc.server.RPCService;
+
+@RPCService
 public class Testclass {
 	public static String myMethod() {
 		return "hallo";